@@ -0,0 +1,58 @@
+package dev.shedux.extraplaceholders.integration.bolt;
+
+import dev.shedux.extraplaceholders.ExtraPlaceholders;
+import dev.shedux.extraplaceholders.api.PluginDependency;
+import dev.shedux.extraplaceholders.clock.ServerClock;
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.handler.PlaceholderHandler;
+import dev.shedux.extraplaceholders.integration.Integration;
+import org.bukkit.plugin.Plugin;
+
+import java.util.List;
+
+/**
+ * Bolt integration entry point registered through ServiceLoader
+ * Contributes the bolt_* placeholders when Bolt is enabled
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class BoltIntegration implements Integration {
+
+    private static final String PLUGIN_NAME = "Bolt";
+
+    private Plugin plugin;
+    private BoltTracker tracker;
+    private MatchHistory history;
+
+    @Override
+    public String getPluginName() {
+        return PLUGIN_NAME;
+    }
+
+    @Override
+    public PluginDependency enable(Plugin plugin) {
+        this.plugin = plugin;
+        this.tracker = new BoltTracker();
+        return tracker;
+    }
+
+    @Override
+    public List<PlaceholderHandler> createHandlers(ServerClock clock) {
+        // Match history stamps results with the shared clock, so it starts once the clock exists
+        if (history == null && Configuration.MATCH_HISTORY.ENABLED) {
+            history = new MatchHistory(plugin, tracker, ExtraPlaceholders.getInstance().getStatsStore(), clock);
+            history.start();
+        }
+
+        return List.of(new BoltPlaceholderHandler(tracker, history, clock));
+    }
+
+    @Override
+    public void disable() {
+        if (history != null) {
+            history.shutdown();
+            history = null;
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package dev.shedux.extraplaceholders.integration.bolt;
+
+import dev.shedux.extraplaceholders.clock.ServerClock;
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.handler.PlaceholderHandler;
+import dev.shedux.extraplaceholders.handler.ResolveContext;
+import dev.shedux.extraplaceholders.jfr.DependencyCallEvent;
+import dev.shedux.extraplaceholders.persistence.PlayerStats;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import xyz.refinedev.practice.api.BoltAPI;
+import xyz.refinedev.practice.api.kit.IKit;
+import xyz.refinedev.practice.api.match.IMatch;
+import xyz.refinedev.practice.api.match.MatchState;
+import xyz.refinedev.practice.api.match.meta.IMatchPlayer;
+import xyz.refinedev.practice.api.match.meta.IMatchTeam;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class BoltPlaceholderHandler implements PlaceholderHandler {
+
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+    private static final String KIT_COMMAND = "kit";
+    private static final String MATCH_COMMAND = "match";
+    private static final String WINNER_COMMAND = "winner";
+    private static final String LOSER_COMMAND = "loser";
+    private static final String RULE_COMMAND = "rule";
+    private static final String HISTORY_COMMAND = "history";
+    private static final String WINS_COMMAND = "wins";
+    private static final String LOSSES_COMMAND = "losses";
+    private static final String STREAK_COMMAND = "streak";
+    private static final String LAST_COMMAND = "last";
+    private static final String BEST_STREAK_COMMAND = "beststreak";
+    private static final String DAILY_WINS_COMMAND = "dailywins";
+    private static final String MATCH_LOOKUP = "bolt_match";
+    private static final String DEPENDENCY_NAME = "Bolt";
+
+    private static final int MIN_ARGS = 2;
+    private static final int COMMAND_INDEX = 1;
+    private static final int SUBCOMMAND_INDEX = 2;
+    private static final int RULE_NAME_INDEX = 3;
+    private static final int SPECIFIC_KIT_NAME_INDEX = 2;
+    private static final int SPECIFIC_KIT_RULE_INDEX = 4;
+    private static final int HISTORY_COUNT_INDEX = 3;
+
+    private static final Set<String> HISTORY_SUBCOMMANDS = Set.of(
+            WINS_COMMAND, LOSSES_COMMAND, STREAK_COMMAND, BEST_STREAK_COMMAND, DAILY_WINS_COMMAND);
+    private static final Set<String> MATCH_SUBCOMMANDS = Set.of(WINNER_COMMAND, LOSER_COMMAND);
+    private static final Map<String, Predicate<IKit>> KIT_RULES = KitRuleAccessors.bind();
+    private static final PlayerHistory WARMUP_HISTORY = PlayerHistory.EMPTY.withResult(true).withResult(false);
+    private static final List<String> WARMUP_LAST_ARGS = List.of("bolt", HISTORY_COMMAND, LAST_COMMAND, "5");
+    private static final List<List<String>> WARMUP_ARGS = List.of(
+            List.of("bolt", MATCH_COMMAND, WINNER_COMMAND),
+            List.of("bolt", MATCH_COMMAND, LOSER_COMMAND),
+            List.of("bolt", KIT_COMMAND, RULE_COMMAND, "sumo"),
+            List.of("bolt", HISTORY_COMMAND, WINS_COMMAND)
+    );
+
+    private final BoltTracker tracker;
+    private final MatchHistory history;
+    private final ServerClock clock;
+
+    /**
+     * Creates the Bolt handler bound to its dependency tracker
+     *
+     * @param tracker the Bolt tracker
+     * @param history the match history, null if disabled
+     * @param clock the server clock used to roll daily counters over
+     */
+    BoltPlaceholderHandler(BoltTracker tracker, MatchHistory history, ServerClock clock) {
+        this.tracker = tracker;
+        this.history = history;
+        this.clock = clock;
+    }
+
+    @Override
+    public String handle(OfflinePlayer player, List<String> args) {
+        if (hasMinimumArgs(args, MIN_ARGS + 1) && HISTORY_COMMAND.equalsIgnoreCase(args.get(COMMAND_INDEX))) {
+            return handleHistoryPlaceholder(player, args);
+        }
+
+        BoltAPI api = tracker.getApi();
+        if (api == null) {
+            return Configuration.MESSAGES.BOLT_NOT_AVAILABLE;
+        }
+
+        if (!hasMinimumArgs(args, MIN_ARGS)) {
+            return null;
+        }
+
+        String command = args.get(COMMAND_INDEX).toLowerCase();
+
+        return switch (command) {
+            case KIT_COMMAND -> handleKitPlaceholder(player, args, api);
+            case MATCH_COMMAND -> handleMatchPlaceholder(player, args, api);
+            default -> null;
+        };
+    }
+
+    @Override
+    public boolean accepts(List<String> args) {
+        if (!hasMinimumArgs(args, MIN_ARGS)) {
+            return false;
+        }
+
+        return switch (args.get(COMMAND_INDEX).toLowerCase()) {
+            case HISTORY_COMMAND -> acceptsHistory(args);
+            case KIT_COMMAND -> args.size() == MIN_ARGS || isCurrentKitRuleCheck(args) || isSpecificKitRuleCheck(args);
+            case MATCH_COMMAND -> args.size() == MIN_ARGS || MATCH_SUBCOMMANDS.contains(args.get(SUBCOMMAND_INDEX).toLowerCase());
+            default -> false;
+        };
+    }
+
+    private boolean acceptsHistory(List<String> args) {
+        if (!hasMinimumArgs(args, MIN_ARGS + 1)) {
+            return false;
+        }
+
+        String subCommand = args.get(SUBCOMMAND_INDEX).toLowerCase();
+
+        if (LAST_COMMAND.equals(subCommand)) {
+            return formatRecentResults(PlayerHistory.EMPTY, args) != null;
+        }
+
+        return HISTORY_SUBCOMMANDS.contains(subCommand);
+    }
+
+    @Override
+    public boolean isSheddable() {
+        return true;
+    }
+
+    @Override
+    public void warmup() {
+        formatRecentResults(WARMUP_HISTORY, WARMUP_LAST_ARGS);
+
+        // The synthetic paths below never reach the resolvers, load them explicitly
+        new WinnerMatchResolver();
+        new LoserMatchResolver();
+
+        // Without a player every path returns before calling into Bolt
+        for (List<String> args : WARMUP_ARGS) {
+            handle(null, args);
+        }
+    }
+
+    private String handleHistoryPlaceholder(OfflinePlayer player, List<String> args) {
+        if (history == null || player == null) {
+            return null;
+        }
+
+        PlayerHistory playerHistory = history.get(player.getUniqueId());
+
+        return switch (args.get(SUBCOMMAND_INDEX).toLowerCase()) {
+            case WINS_COMMAND -> String.valueOf(playerHistory.wins());
+            case LOSSES_COMMAND -> String.valueOf(playerHistory.losses());
+            case STREAK_COMMAND -> String.valueOf(playerHistory.streak());
+            case LAST_COMMAND -> formatRecentResults(playerHistory, args);
+            case BEST_STREAK_COMMAND -> String.valueOf(history.getStats(player.getUniqueId())
+                    .get(MatchHistory.BEST_STREAK_STAT));
+            case DAILY_WINS_COMMAND -> String.valueOf(getDailyWins(history.getStats(player.getUniqueId())));
+            default -> null;
+        };
+    }
+
+    private long getDailyWins(PlayerStats stats) {
+        long today = clock.currentDate(ZoneId.systemDefault()).toEpochDay();
+        return stats.get(MatchHistory.DAILY_WINS_DAY_STAT) == today ? stats.get(MatchHistory.DAILY_WINS_STAT) : 0;
+    }
+
+    private String formatRecentResults(PlayerHistory playerHistory, List<String> args) {
+        if (!hasMinimumArgs(args, HISTORY_COUNT_INDEX + 1)) {
+            return null;
+        }
+
+        int count;
+        try {
+            count = Integer.parseInt(args.get(HISTORY_COUNT_INDEX));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        if (count <= 0 || count > PlayerHistory.MAX_RECENT) {
+            return null;
+        }
+
+        int shown = Math.min(count, playerHistory.recentCount());
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < shown; i++) {
+            builder.append(playerHistory.isRecentWin(i)
+                    ? Configuration.MATCH_HISTORY.WIN_SYMBOL
+                    : Configuration.MATCH_HISTORY.LOSS_SYMBOL);
+        }
+
+        return builder.toString();
+    }
+
+    private String handleMatchPlaceholder(OfflinePlayer player, List<String> args, BoltAPI api) {
+        if (!hasMinimumArgs(args, 3) || !(player instanceof Player onlinePlayer)) {
+            return Configuration.MESSAGES.BOLT_NOT_AVAILABLE;
+        }
+
+        String subCommand = args.get(SUBCOMMAND_INDEX).toLowerCase();
+
+        return switch (subCommand) {
+            case WINNER_COMMAND -> handleMatchWinner(onlinePlayer, api);
+            case LOSER_COMMAND -> handleMatchLoser(onlinePlayer, api);
+            default -> null;
+        };
+    }
+
+    private String handleKitPlaceholder(OfflinePlayer player, List<String> args, BoltAPI api) {
+        if (!(player instanceof Player onlinePlayer)) {
+            return Configuration.MESSAGES.KIT_DEFAULT;
+        }
+
+        IMatch match = getPlayerMatch(onlinePlayer, api);
+        if (match == null) {
+            return Configuration.MESSAGES.KIT_OUT_OF_MATCH;
+        }
+
+        IKit currentKit = match.getKit();
+        if (currentKit == null) {
+            return Configuration.MESSAGES.KIT_LOADING;
+        }
+
+        if (isCurrentKitRuleCheck(args)) {
+            return handleCurrentKitRule(args, currentKit);
+        }
+
+        if (isSpecificKitRuleCheck(args)) {
+            return handleSpecificKitRule(args, api);
+        }
+
+        return null;
+    }
+
+    private String handleMatchWinner(Player player, BoltAPI api) {
+        return getMatchResult(player, api, new WinnerMatchResolver());
+    }
+
+    private String handleMatchLoser(Player player, BoltAPI api) {
+        return getMatchResult(player, api, new LoserMatchResolver());
+    }
+
+    private String getMatchResult(Player player, BoltAPI api, MatchResultResolver resolver) {
+        IMatch match = getPlayerMatch(player, api);
+
+        if (!isMatchEnding(match)) {
+            return Configuration.MESSAGES.BOLT_NOT_AVAILABLE;
+        }
+
+        if (match.isSoloMatch()) {
+            return resolver.resolveSolo(match)
+                    .map(this::getPlayerName)
+                    .orElse(Configuration.MESSAGES.BOLT_NOT_AVAILABLE);
+        }
+
+        if (match.isTeamMatch()) {
+            return resolver.resolveTeam(match)
+                    .map(this::formatTeamNames)
+                    .orElse(Configuration.MESSAGES.BOLT_NOT_AVAILABLE);
+        }
+
+        if (match.isFFAMatch()) {
+            return resolver.resolveFFA(match)
+                    .orElse(Configuration.MESSAGES.BOLT_NOT_AVAILABLE);
+        }
+
+        return Configuration.MESSAGES.BOLT_NOT_AVAILABLE;
+    }
+
+    private String handleCurrentKitRule(List<String> args, IKit currentKit) {
+        if (!hasMinimumArgs(args, 4)) {
+            return FALSE;
+        }
+
+        String ruleName = args.get(RULE_NAME_INDEX).toLowerCase();
+        return checkKitRule(currentKit, ruleName) ? TRUE : FALSE;
+    }
+
+    private String handleSpecificKitRule(List<String> args, BoltAPI api) {
+        if (!hasMinimumArgs(args, 5)) {
+            return FALSE;
+        }
+
+        String kitName = args.get(SPECIFIC_KIT_NAME_INDEX);
+        String ruleName = args.get(SPECIFIC_KIT_RULE_INDEX).toLowerCase();
+
+        IKit kit = getKitByName(api, kitName);
+        if (kit == null) {
+            return Configuration.MESSAGES.KIT_INVALID;
+        }
+
+        return checkKitRule(kit, ruleName) ? TRUE : FALSE;
+    }
+
+    private boolean checkKitRule(IKit kit, String ruleName) {
+        Predicate<IKit> rule = KIT_RULES.get(ruleName);
+        return rule != null && rule.test(kit);
+    }
+
+    private IMatch getPlayerMatch(Player player, BoltAPI api) {
+        try {
+            return ResolveContext.lookup(MATCH_LOOKUP, player.getUniqueId(),
+                    () -> DependencyCallEvent.record(DEPENDENCY_NAME, "getMatchByPlayer", player.getUniqueId(),
+                            api, player, (bolt, target) -> bolt.getMatchAPI().getMatchByPlayer(target)));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private IKit getKitByName(BoltAPI api, String kitName) {
+        try {
+            return DependencyCallEvent.record(DEPENDENCY_NAME, "getKit", null,
+                    api, kitName, (bolt, name) -> bolt.getKitAPI().getKit(name));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private boolean isMatchEnding(IMatch match) {
+        return match != null && match.getState() == MatchState.ENDING;
+    }
+
+    private boolean isCurrentKitRuleCheck(List<String> args) {
+        return hasMinimumArgs(args, 3) && RULE_COMMAND.equalsIgnoreCase(args.get(SUBCOMMAND_INDEX));
+    }
+
+    private boolean isSpecificKitRuleCheck(List<String> args) {
+        return hasMinimumArgs(args, 4) && RULE_COMMAND.equalsIgnoreCase(args.get(RULE_NAME_INDEX));
+    }
+
+    private String getPlayerName(IMatchPlayer matchPlayer) {
+        return Optional.ofNullable(matchPlayer.getPlayer())
+                .map(Player::getName)
+                .orElse(Configuration.MESSAGES.BOLT_NOT_AVAILABLE);
+    }
+
+    private String formatTeamNames(IMatchTeam team) {
+        List<Player> players = team.getPlayers();
+        if (players == null || players.isEmpty()) {
+            return Configuration.MESSAGES.BOLT_NOT_AVAILABLE;
+        }
+        return players.stream()
+                .filter(Objects::nonNull)
+                .map(Player::getName)
+                .collect(Collectors.joining(", "));
+    }
+
+    private String formatPlayerNames(List<IMatchPlayer> matchPlayers) {
+        if (matchPlayers == null || matchPlayers.isEmpty()) {
+            return Configuration.MESSAGES.BOLT_NOT_AVAILABLE;
+        }
+        return matchPlayers.stream()
+                .map(IMatchPlayer::getPlayer)
+                .filter(Objects::nonNull)
+                .map(Player::getName)
+                .collect(Collectors.joining(", "));
+    }
+
+    private interface MatchResultResolver {
+        Optional<IMatchPlayer> resolveSolo(IMatch match);
+        Optional<IMatchTeam> resolveTeam(IMatch match);
+        Optional<String> resolveFFA(IMatch match);
+    }
+
+    private class WinnerMatchResolver implements MatchResultResolver {
+        @Override
+        public Optional<IMatchPlayer> resolveSolo(IMatch match) {
+            return MatchResults.findWinnerInSolo(match);
+        }
+
+        @Override
+        public Optional<IMatchTeam> resolveTeam(IMatch match) {
+            return MatchResults.findWinnerTeam(match);
+        }
+
+        @Override
+        public Optional<String> resolveFFA(IMatch match) {
+            return MatchResults.findWinnerInFFA(match).map(BoltPlaceholderHandler.this::getPlayerName);
+        }
+    }
+
+    private class LoserMatchResolver implements MatchResultResolver {
+        @Override
+        public Optional<IMatchPlayer> resolveSolo(IMatch match) {
+            return MatchResults.findLoserInSolo(match);
+        }
+
+        @Override
+        public Optional<IMatchTeam> resolveTeam(IMatch match) {
+            return MatchResults.findLoserTeam(match);
+        }
+
+        @Override
+        public Optional<String> resolveFFA(IMatch match) {
+            List<IMatchPlayer> losers = MatchResults.findLosersInFFA(match);
+            return losers.isEmpty() ? Optional.empty() : Optional.of(formatPlayerNames(losers));
+        }
+    }
+}
\ No newline at end of file
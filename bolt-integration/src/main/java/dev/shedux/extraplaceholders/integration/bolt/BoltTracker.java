@@ -0,0 +1,29 @@
+package dev.shedux.extraplaceholders.integration.bolt;
+
+import dev.shedux.extraplaceholders.integration.DependencyTracker;
+import xyz.refinedev.practice.api.BoltAPI;
+
+/**
+ * Tracker for Bolt plugin dependency
+ * Rebinds the Bolt API whenever Bolt enables or disables
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class BoltTracker extends DependencyTracker<BoltAPI> {
+
+    private static final String DEPENDENCY_NAME = "Bolt";
+
+    /**
+     * Initializes the Bolt tracker with safe API access
+     * Handles missing dependencies gracefully without throwing exceptions
+     */
+    public BoltTracker() {
+        super(DEPENDENCY_NAME);
+    }
+
+    @Override
+    protected BoltAPI probe() {
+        return BoltAPI.INSTANCE;
+    }
+}
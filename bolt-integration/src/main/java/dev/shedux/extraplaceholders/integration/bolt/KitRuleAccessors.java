@@ -0,0 +1,117 @@
+package dev.shedux.extraplaceholders.integration.bolt;
+
+import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
+import xyz.refinedev.practice.api.kit.IKit;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Binds kit rule getters per rule at runtime
+ * Rules missing from the installed Bolt version are skipped individually instead of breaking the handler
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+class KitRuleAccessors {
+
+    private static final String PREDICATE_METHOD = "test";
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Predicate.class);
+    private static final MethodType ERASED_TYPE = MethodType.methodType(boolean.class, Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(boolean.class);
+    private static final MethodType INSTANTIATED_TYPE = MethodType.methodType(boolean.class, IKit.class);
+
+    private static final Map<String, String> RULE_GETTERS = Map.ofEntries(
+            Map.entry("enabled", "isEnabled"),
+            Map.entry("ranked", "isRanked"),
+            Map.entry("build", "isBuild"),
+            Map.entry("showhp", "isShowHP"),
+            Map.entry("spleef", "isSpleef"),
+            Map.entry("battlerush", "isBattleRush"),
+            Map.entry("fireballfight", "isFireballFight"),
+            Map.entry("pearlfight", "isPearlFight"),
+            Map.entry("bridges", "isBridges"),
+            Map.entry("pearldamage", "isPearlDamage"),
+            Map.entry("nodrop", "isNoDrop"),
+            Map.entry("noregen", "isNoRegen"),
+            Map.entry("nofall", "isNoFall"),
+            Map.entry("nohunger", "isNoHunger"),
+            Map.entry("blockremoval", "isBlockRemoval"),
+            Map.entry("respawnmode", "isRespawnMode"),
+            Map.entry("legacycombat", "isLegacyCombat"),
+            Map.entry("buildheightdamage", "isBuildHeightDamage"),
+            Map.entry("topfight", "isTopFight"),
+            Map.entry("bedfight", "isBedFight"),
+            Map.entry("stickfight", "isStickFight"),
+            Map.entry("stickspawn", "isStickSpawn"),
+            Map.entry("partyffa", "isPartyFFA"),
+            Map.entry("partysplit", "isPartySplit"),
+            Map.entry("voidspawn", "isVoidSpawn"),
+            Map.entry("boxing", "isBoxing"),
+            Map.entry("combo", "isCombo"),
+            Map.entry("sumo", "isSumo"),
+            Map.entry("liquidkill", "isLiquidKill"),
+            Map.entry("mlgrush", "isMlgRush"),
+            Map.entry("crystalpvp", "isCrystalPvP"),
+            Map.entry("cartpvp", "isCartPvP"),
+            Map.entry("tntsumo", "isTntSumo"),
+            Map.entry("windchargemode", "isWindChargeMode"),
+            Map.entry("oitq", "isOitq"),
+            Map.entry("presplash", "isPreSplash"),
+            Map.entry("breakmap", "isBreakMap"),
+            Map.entry("pearlcooldown", "isPearlCooldown"),
+            Map.entry("editable", "isEditable"),
+            Map.entry("ffa", "isFFA"),
+            Map.entry("portal", "isPortal")
+    );
+
+    /**
+     * Binds every rule the installed Bolt version supports
+     * Each accessor is a LambdaMetafactory predicate, so supported rules run at direct-call speed
+     *
+     * @return rule name to accessor, without unsupported rules
+     */
+    Map<String, Predicate<IKit>> bind() {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Map<String, Predicate<IKit>> rules = new HashMap<>();
+        List<String> unsupported = new ArrayList<>();
+
+        RULE_GETTERS.forEach((rule, getter) -> {
+            Predicate<IKit> accessor = bindGetter(lookup, getter);
+            if (accessor == null) {
+                unsupported.add(rule);
+            } else {
+                rules.put(rule, accessor);
+            }
+        });
+
+        if (!unsupported.isEmpty()) {
+            Bukkit.getLogger().warning("[ExtraPlaceholders] Kit rules not supported by this Bolt version: " + unsupported);
+        }
+
+        return Map.copyOf(rules);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<IKit> bindGetter(MethodHandles.Lookup lookup, String getter) {
+        try {
+            MethodHandle handle = lookup.findVirtual(IKit.class, getter, GETTER_TYPE);
+            CallSite site = LambdaMetafactory.metafactory(lookup, PREDICATE_METHOD, FACTORY_TYPE,
+                    ERASED_TYPE, handle, INSTANTIATED_TYPE);
+
+            return (Predicate<IKit>) site.getTarget().invoke();
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package dev.shedux.extraplaceholders.integration.bolt;
+
+import dev.shedux.extraplaceholders.clock.ServerClock;
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.persistence.PlayerStats;
+import dev.shedux.extraplaceholders.persistence.StatsStore;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import xyz.refinedev.practice.api.BoltAPI;
+import xyz.refinedev.practice.api.match.IMatch;
+import xyz.refinedev.practice.api.match.MatchState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Records ended Bolt matches and serves per-player win/loss history
+ * Matches are detected on the main thread; the log and the index are only touched by the history thread
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+final class MatchHistory {
+
+    private static final String LOG_FILE_NAME = "bolt-matches.eplog";
+    private static final String COMPACT_SUFFIX = ".compact";
+    private static final long POLL_PERIOD_TICKS = 20L;
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5L;
+
+    static final String BEST_STREAK_STAT = "bolt_best_streak";
+    static final String DAILY_WINS_STAT = "bolt_daily_wins";
+    static final String DAILY_WINS_DAY_STAT = "bolt_daily_wins_day";
+
+    private final Plugin plugin;
+    private final BoltTracker tracker;
+    private final StatsStore statsStore;
+    private final ServerClock clock;
+    private final Map<UUID, PlayerHistory> index = new ConcurrentHashMap<>();
+    private final Set<IMatch> recordedMatches = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private ScheduledExecutorService executor;
+    private BukkitTask pollTask;
+    private MatchHistoryLog log;
+
+    /**
+     * Creates the match history
+     *
+     * @param plugin the owning plugin
+     * @param tracker the Bolt tracker
+     * @param statsStore the persisted stats written behind on every result
+     * @param clock the shared server clock stamping results
+     */
+    MatchHistory(Plugin plugin, BoltTracker tracker, StatsStore statsStore, ServerClock clock) {
+        this.plugin = plugin;
+        this.tracker = tracker;
+        this.statsStore = statsStore;
+        this.clock = clock;
+    }
+
+    /**
+     * Rebuilds the index from the log and starts recording
+     */
+    void start() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ExtraPlaceholders-MatchHistory");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::openLog);
+
+        long compactMinutes = Math.max(1, Configuration.MATCH_HISTORY.COMPACT_INTERVAL_MINUTES);
+        executor.scheduleWithFixedDelay(this::compact, compactMinutes, compactMinutes, TimeUnit.MINUTES);
+
+        pollTask = Bukkit.getScheduler().runTaskTimer(plugin, this::pollMatches, POLL_PERIOD_TICKS, POLL_PERIOD_TICKS);
+    }
+
+    /**
+     * Stops recording, writes pending results and closes the log
+     */
+    void shutdown() {
+        if (pollTask != null) {
+            pollTask.cancel();
+            pollTask = null;
+        }
+
+        if (executor == null) {
+            return;
+        }
+
+        executor.execute(this::closeLog);
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        executor = null;
+    }
+
+    /**
+     * Gets the history of a player
+     *
+     * @param player the player id
+     * @return the counters, empty if the player has no recorded matches
+     */
+    PlayerHistory get(UUID player) {
+        return index.getOrDefault(player, PlayerHistory.EMPTY);
+    }
+
+    /**
+     * Gets the persisted stats of a player
+     *
+     * @param player the player id
+     * @return the stats, served from memory
+     */
+    PlayerStats getStats(UUID player) {
+        return statsStore.get(player);
+    }
+
+    private void pollMatches() {
+        BoltAPI api = tracker.getApi();
+        if (api == null) {
+            return;
+        }
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            IMatch match = getMatch(api, player);
+
+            if (match == null || match.getState() != MatchState.ENDING || recordedMatches.contains(match)) {
+                continue;
+            }
+
+            // Bolt may enter ENDING before the winner is known; keep polling the match until it is
+            MatchResults.Outcome outcome = MatchResults.resolve(match);
+            if (outcome.winners().isEmpty()) {
+                continue;
+            }
+
+            recordedMatches.add(match);
+            long endedAt = clock.currentTimeMillis();
+            executor.execute(() -> record(outcome, endedAt));
+        }
+    }
+
+    private IMatch getMatch(BoltAPI api, Player player) {
+        try {
+            return api.getMatchAPI().getMatchByPlayer(player);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void record(MatchResults.Outcome outcome, long endedAt) {
+        outcome.winners().forEach(player -> recordResult(player, true, endedAt));
+        outcome.losers().forEach(player -> recordResult(player, false, endedAt));
+    }
+
+    private void recordResult(UUID player, boolean won, long endedAt) {
+        appendResult(player, won, endedAt);
+
+        // The index is only updated once the result is persisted, so compaction never writes it twice
+        PlayerHistory updated = index.merge(player, PlayerHistory.EMPTY.withResult(won),
+                (current, ignored) -> current.withResult(won));
+        long day = epochDay(endedAt);
+
+        statsStore.update(player, stats -> applyResult(stats, updated, won, day));
+    }
+
+    private void appendResult(UUID player, boolean won, long endedAt) {
+        if (log == null || log.appendResult(player, won, endedAt)) {
+            return;
+        }
+
+        compact();
+
+        if (log != null && !log.appendResult(player, won, endedAt)) {
+            plugin.getLogger().warning("Match history log is full even after compaction, raise MATCH_HISTORY.MAX_SIZE_MB");
+        }
+    }
+
+    private PlayerStats applyResult(PlayerStats stats, PlayerHistory history, boolean won, long day) {
+        PlayerStats updated = stats.with(BEST_STREAK_STAT, Math.max(stats.get(BEST_STREAK_STAT), history.streak()));
+
+        if (!won) {
+            return updated;
+        }
+
+        long dailyWins = stats.get(DAILY_WINS_DAY_STAT) == day ? stats.get(DAILY_WINS_STAT) + 1 : 1;
+        return updated.with(DAILY_WINS_DAY_STAT, day).with(DAILY_WINS_STAT, dailyWins);
+    }
+
+    /**
+     * Converts a timestamp to a day number in the server time zone
+     *
+     * @param epochMillis the timestamp
+     * @return days since the epoch
+     */
+    static long epochDay(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    private void openLog() {
+        try {
+            Path directory = plugin.getDataFolder().toPath().resolve(Configuration.MATCH_HISTORY.DIRECTORY);
+            Files.createDirectories(directory);
+
+            log = new MatchHistoryLog(directory.resolve(LOG_FILE_NAME), getCapacity());
+            log.replayInto(index);
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to open match history log, results are kept in memory only", e);
+        }
+    }
+
+    /**
+     * Rewrites the log as one summary record per player
+     * The compacted log is written next to the current one and moved over it, so a crash keeps the old log
+     */
+    private void compact() {
+        if (log == null || log.getRecordCount() <= index.size()) {
+            return;
+        }
+
+        Path file = log.getFile();
+        Path compacted = file.resolveSibling(file.getFileName() + COMPACT_SUFFIX);
+        long capacity = Math.max(getCapacity(), log.getCapacity());
+
+        try {
+            Files.deleteIfExists(compacted);
+
+            try (MatchHistoryLog target = new MatchHistoryLog(compacted, capacity)) {
+                long now = clock.currentTimeMillis();
+                for (Map.Entry<UUID, PlayerHistory> entry : index.entrySet()) {
+                    if (!target.appendSummary(entry.getKey(), entry.getValue(), now)) {
+                        throw new IOException("Compacted history does not fit in " + capacity + " bytes");
+                    }
+                }
+            }
+
+            // Closing unmaps the old log, so the move never replaces a file that is still mapped
+            MatchHistoryLog current = log;
+            log = null;
+            current.close();
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to compact match history log", e);
+        } finally {
+            reopenLog(file, capacity);
+        }
+    }
+
+    private void reopenLog(Path file, long capacity) {
+        if (log != null) {
+            return;
+        }
+
+        try {
+            log = new MatchHistoryLog(file, capacity);
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to reopen match history log, results are kept in memory only", e);
+        }
+    }
+
+    private void closeLog() {
+        if (log == null) {
+            return;
+        }
+
+        try {
+            log.close();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to close match history log", e);
+        }
+
+        log = null;
+    }
+
+    private long getCapacity() {
+        return Math.max(1, Configuration.MATCH_HISTORY.MAX_SIZE_MB) * BYTES_PER_MB;
+    }
+}
@@ -0,0 +1,193 @@
+package dev.shedux.extraplaceholders.integration.bolt;
+
+import dev.shedux.extraplaceholders.util.MappedBuffers;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only match history backed by a memory-mapped file of fixed-size records
+ * Header: magic, version, end position. The end position is updated after every record
+ * so a crash loses at most the record being written.
+ * Record: uuid msb, uuid lsb, epoch millis, recent results, wins, losses, streak, recent count, type, won, padding
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+final class MatchHistoryLog implements AutoCloseable {
+
+    private static final int MAGIC = 0x4550484C; // "EPHL"
+    private static final int VERSION = 1;
+
+    private static final int END_POSITION_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = Long.BYTES * 4 + Integer.BYTES * 3 + Byte.BYTES * 4;
+
+    private static final byte TYPE_RESULT = 1;
+    private static final byte TYPE_SUMMARY = 2;
+
+    @Getter
+    private final Path file;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    @Getter
+    private long recordCount;
+
+    private boolean closed;
+
+    /**
+     * Opens a history log, creating it if missing
+     *
+     * @param file the log file
+     * @param capacity the file size in bytes
+     * @throws IOException if the file cannot be mapped or is not a history log
+     */
+    MatchHistoryLog(Path file, long capacity) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            long size = Math.max(capacity, channel.size());
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(size, Integer.MAX_VALUE));
+            openHeader();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Streams every record into a player index
+     * Summaries replace the player's counters, results are applied on top
+     *
+     * @param index the index to rebuild
+     */
+    void replayInto(Map<UUID, PlayerHistory> index) {
+        int end = buffer.position();
+
+        for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= end; offset += RECORD_SIZE) {
+            UUID player = new UUID(buffer.getLong(offset), buffer.getLong(offset + 8));
+            byte type = buffer.get(offset + 45);
+
+            if (type == TYPE_SUMMARY) {
+                index.put(player, new PlayerHistory(buffer.getInt(offset + 32), buffer.getInt(offset + 36),
+                        buffer.getInt(offset + 40), buffer.getLong(offset + 24), buffer.get(offset + 44)));
+            } else if (type == TYPE_RESULT) {
+                boolean won = buffer.get(offset + 46) != 0;
+                index.merge(player, PlayerHistory.EMPTY.withResult(won), (current, ignored) -> current.withResult(won));
+            }
+        }
+    }
+
+    /**
+     * Appends one match result
+     *
+     * @param player the player
+     * @param won whether the player won
+     * @param epochMillis when the match ended
+     * @return false if the log is full
+     */
+    boolean appendResult(UUID player, boolean won, long epochMillis) {
+        return append(player, epochMillis, PlayerHistory.EMPTY, TYPE_RESULT, won);
+    }
+
+    /**
+     * Appends the full counters of a player, used when compacting
+     *
+     * @param player the player
+     * @param history the counters
+     * @param epochMillis when the summary was written
+     * @return false if the log is full
+     */
+    boolean appendSummary(UUID player, PlayerHistory history, long epochMillis) {
+        return append(player, epochMillis, history, TYPE_SUMMARY, false);
+    }
+
+    /**
+     * Gets how many more records fit
+     *
+     * @return the remaining record slots
+     */
+    long getRemainingRecords() {
+        return buffer.remaining() / RECORD_SIZE;
+    }
+
+    /**
+     * Gets the mapped capacity
+     *
+     * @return the capacity in bytes
+     */
+    long getCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Flushes the mapping, closes the file and unmaps it
+     * The log must not be used afterwards
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        buffer.force();
+
+        try {
+            channel.close();
+        } finally {
+            MappedBuffers.unmap(buffer);
+        }
+    }
+
+    private boolean append(UUID player, long epochMillis, PlayerHistory history, byte type, boolean won) {
+        if (buffer.remaining() < RECORD_SIZE) {
+            return false;
+        }
+
+        buffer.putLong(player.getMostSignificantBits());
+        buffer.putLong(player.getLeastSignificantBits());
+        buffer.putLong(epochMillis);
+        buffer.putLong(history.recentResults());
+        buffer.putInt(history.wins());
+        buffer.putInt(history.losses());
+        buffer.putInt(history.streak());
+        buffer.put((byte) history.recentCount());
+        buffer.put(type);
+        buffer.put(won ? (byte) 1 : (byte) 0);
+        buffer.put((byte) 0);
+        buffer.putLong(END_POSITION_OFFSET, buffer.position());
+
+        recordCount++;
+        return true;
+    }
+
+    private void openHeader() throws IOException {
+        int magic = buffer.getInt(0);
+
+        if (magic == 0) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(END_POSITION_OFFSET, HEADER_SIZE);
+        } else if (magic != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not an ExtraPlaceholders match history log: " + file.getFileName());
+        }
+
+        long end = buffer.getLong(END_POSITION_OFFSET);
+        long records = Math.max(0, (Math.min(end, buffer.capacity()) - HEADER_SIZE) / RECORD_SIZE);
+
+        buffer.position(HEADER_SIZE + (int) (records * RECORD_SIZE));
+        recordCount = records;
+    }
+}
@@ -0,0 +1,149 @@
+package dev.shedux.extraplaceholders.integration.bolt;
+
+import lombok.experimental.UtilityClass;
+import org.bukkit.entity.Player;
+import xyz.refinedev.practice.api.match.IMatch;
+import xyz.refinedev.practice.api.match.meta.IMatchPlayer;
+import xyz.refinedev.practice.api.match.meta.IMatchTeam;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Winner and loser resolution for Bolt matches
+ * Shared by the match placeholders and the match history recorder
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+class MatchResults {
+
+    /**
+     * Winners and losers of an ended match
+     *
+     * @param winners the winning player ids
+     * @param losers the losing player ids
+     */
+    record Outcome(List<UUID> winners, List<UUID> losers) {
+    }
+
+    /**
+     * Resolves the winners and losers of a match
+     *
+     * @param match the ending match
+     * @return the outcome, empty lists if it cannot be resolved
+     */
+    Outcome resolve(IMatch match) {
+        List<Player> winners = new ArrayList<>();
+
+        if (match.isSoloMatch()) {
+            findWinnerInSolo(match).map(IMatchPlayer::getPlayer).ifPresent(winners::add);
+        } else if (match.isTeamMatch()) {
+            findWinnerTeam(match).map(IMatchTeam::getPlayers).ifPresent(winners::addAll);
+        } else if (match.isFFAMatch()) {
+            findWinnerInFFA(match).map(IMatchPlayer::getPlayer).ifPresent(winners::add);
+        }
+
+        if (winners.isEmpty()) {
+            return new Outcome(List.of(), List.of());
+        }
+
+        List<UUID> winnerIds = winners.stream()
+                .filter(Objects::nonNull)
+                .map(Player::getUniqueId)
+                .distinct()
+                .toList();
+
+        List<UUID> loserIds = match.getPlayers().stream()
+                .filter(Objects::nonNull)
+                .map(Player::getUniqueId)
+                .filter(id -> !winnerIds.contains(id))
+                .distinct()
+                .toList();
+
+        return new Outcome(winnerIds, loserIds);
+    }
+
+    Optional<IMatchPlayer> findWinnerInSolo(IMatch match) {
+        for (Player p : match.getPlayers()) {
+            IMatchPlayer mp = match.getMatchPlayer(p);
+            if (mp != null && mp.isAlive()) {
+                return Optional.of(mp);
+            }
+        }
+
+        return match.getPlayers().stream()
+                .map(match::getMatchPlayer)
+                .filter(Objects::nonNull)
+                .max(Comparator.comparingInt(IMatchPlayer::getPoints));
+    }
+
+    Optional<IMatchPlayer> findLoserInSolo(IMatch match) {
+        return findWinnerInSolo(match).flatMap(winner ->
+                match.getPlayers().stream()
+                        .map(match::getMatchPlayer)
+                        .filter(mp -> mp != null && mp != winner)
+                        .findFirst()
+        );
+    }
+
+    Optional<IMatchTeam> findWinnerTeam(IMatch match) {
+        List<IMatchTeam> teams = match.getPlayers().stream()
+                .map(match::getMatchTeam)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (teams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (teams.size() == 1) {
+            return Optional.of(teams.get(0));
+        }
+
+        IMatchTeam team1 = teams.get(0);
+        IMatchTeam team2 = teams.get(1);
+
+        if (team1.getAliveCount() != team2.getAliveCount()) {
+            return Optional.of(team1.getAliveCount() > team2.getAliveCount() ? team1 : team2);
+        }
+
+        return Optional.of(team1.getPoints() >= team2.getPoints() ? team1 : team2);
+    }
+
+    Optional<IMatchTeam> findLoserTeam(IMatch match) {
+        return findWinnerTeam(match).flatMap(winner ->
+                match.getPlayers().stream()
+                        .map(match::getMatchTeam)
+                        .filter(team -> team != null && team != winner)
+                        .findFirst()
+        );
+    }
+
+    Optional<IMatchPlayer> findWinnerInFFA(IMatch match) {
+        return match.getPlayers().stream()
+                .map(match::getMatchPlayer)
+                .filter(mp -> mp != null && mp.isAlive())
+                .max(Comparator.comparingInt(IMatchPlayer::getPoints))
+                .or(() -> match.getPlayers().stream()
+                        .map(match::getMatchPlayer)
+                        .filter(Objects::nonNull)
+                        .max(Comparator.comparingInt(IMatchPlayer::getPoints))
+                );
+    }
+
+    List<IMatchPlayer> findLosersInFFA(IMatch match) {
+        Optional<IMatchPlayer> winner = findWinnerInFFA(match);
+        return match.getPlayers().stream()
+                .map(match::getMatchPlayer)
+                .filter(mp -> mp != null && !winner.map(w -> w == mp).orElse(false))
+                .collect(Collectors.toList());
+    }
+}
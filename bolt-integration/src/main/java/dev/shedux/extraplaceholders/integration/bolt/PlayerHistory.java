@@ -0,0 +1,52 @@
+package dev.shedux.extraplaceholders.integration.bolt;
+
+/**
+ * Immutable match history counters of one player
+ * Recent results are a 64-slot bit ring, newest result in the lowest bit, 1 for a win
+ *
+ * @param wins total wins
+ * @param losses total losses
+ * @param streak current streak, positive for wins and negative for losses
+ * @param recentResults recent result bits
+ * @param recentCount number of valid recent result bits
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+record PlayerHistory(int wins, int losses, int streak, long recentResults, int recentCount) {
+
+    static final int MAX_RECENT = Long.SIZE;
+    static final PlayerHistory EMPTY = new PlayerHistory(0, 0, 0, 0L, 0);
+
+    /**
+     * Applies one match result
+     *
+     * @param won whether the player won
+     * @return the updated history
+     */
+    PlayerHistory withResult(boolean won) {
+        int nextStreak;
+        if (won) {
+            nextStreak = streak > 0 ? streak + 1 : 1;
+        } else {
+            nextStreak = streak < 0 ? streak - 1 : -1;
+        }
+
+        return new PlayerHistory(
+                won ? wins + 1 : wins,
+                won ? losses : losses + 1,
+                nextStreak,
+                (recentResults << 1) | (won ? 1L : 0L),
+                Math.min(recentCount + 1, MAX_RECENT)
+        );
+    }
+
+    /**
+     * Checks a recent result
+     *
+     * @param index 0 for the newest result
+     * @return true if that match was won
+     */
+    boolean isRecentWin(int index) {
+        return ((recentResults >>> index) & 1L) != 0;
+    }
+}
@@ -0,0 +1,503 @@
+package dev.shedux.extraplaceholders;
+
+import dev.shedux.extraplaceholders.api.PlaceholderListener;
+import dev.shedux.extraplaceholders.api.PlaceholderMatrix;
+import dev.shedux.extraplaceholders.api.Subscription;
+import dev.shedux.extraplaceholders.api.handler.ExtraPlaceholderHandler;
+import dev.shedux.extraplaceholders.api.handler.HandlerRegistration;
+import dev.shedux.extraplaceholders.command.MainCommand;
+import dev.shedux.extraplaceholders.config.ConfigValidator;
+import dev.shedux.extraplaceholders.config.ConfigWatcher;
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.config.PreparedConfig;
+import dev.shedux.extraplaceholders.core.Initializer;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import dev.shedux.extraplaceholders.jfr.ConfigReloadEvent;
+import dev.shedux.extraplaceholders.metrics.PrometheusExporter;
+import dev.shedux.extraplaceholders.persistence.StatsStore;
+import dev.shedux.extraplaceholders.template.PlaceholderTemplate;
+import dev.shedux.extraplaceholders.util.Logger;
+import dev.shedux.extraplaceholders.util.MessageUtil;
+import dev.shedux.extraplaceholders.warmup.StartupWarmup;
+import lombok.Getter;
+import net.j4c0b3y.api.command.CommandHandler;
+import net.j4c0b3y.api.command.bukkit.BukkitCommandHandler;
+import net.j4c0b3y.api.command.execution.locale.CommandLocale;
+import net.j4c0b3y.api.config.ConfigHandler;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Main plugin class for ExtraPlaceholders
+ * Provides custom placeholders for various plugin integrations
+ *
+ * @author sheduxdev
+ * @version 1.0.0
+ */
+public final class ExtraPlaceholders extends JavaPlugin {
+
+    private static final String PLACEHOLDERAPI_NAME = "PlaceholderAPI";
+    private static final String PLUGIN_NAME = "ExtraPlaceholders";
+    private static final String CONFIG_FILE_NAME = "config.yml";
+
+    @Getter
+    private static ExtraPlaceholders instance;
+
+    private static Logger logger;
+    private static ConfigHandler configHandler;
+
+    @Getter
+    private ExtraPlaceholdersExpansion expansion;
+
+    private final PrometheusExporter prometheusExporter = new PrometheusExporter();
+
+    @Getter
+    private final StatsStore statsStore = new StatsStore(this);
+
+    private ConfigWatcher configWatcher;
+    private volatile String lastLoadedConfig;
+
+    /**
+     * Called when the plugin is enabled
+     * Initializes all components in proper order
+     */
+    @Override
+    public void onEnable() {
+        instance = this;
+        logger = new Logger(PLUGIN_NAME);
+
+        logPluginEnabled();
+
+        if (!initializeConfiguration()) {
+            disablePlugin();
+            return;
+        }
+
+        statsStore.start();
+        initializeTrackers();
+
+        if (!registerExpansion()) {
+            disablePlugin();
+            return;
+        }
+
+        startServices();
+        startWarmup();
+        registerCommands();
+        logPluginReady();
+    }
+
+    /**
+     * Called when the plugin is disabled
+     * Cleans up resources
+     */
+    @Override
+    public void onDisable() {
+        stopServices();
+        unregisterExpansion();
+        logPluginDisabled();
+    }
+
+    /**
+     * Initializes the configuration system
+     *
+     * @return true if initialization successful
+     */
+    private boolean initializeConfiguration() {
+        try {
+            File folder = getDataFolder();
+            configHandler = new ConfigHandler(getLogger());
+            Configuration configuration = new Configuration(folder, configHandler);
+            configuration.load();
+            return true;
+        } catch (Exception e) {
+            logger.error("Failed to initialize configuration: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Initializes dependency trackers
+     */
+    private void initializeTrackers() {
+        Initializer.initialize(this);
+    }
+
+    /**
+     * Registers the PlaceholderAPI expansion
+     *
+     * @return true if registration successful
+     */
+    private boolean registerExpansion() {
+        if (!isPlaceholderAPIPresent()) {
+            logger.error(Configuration.MESSAGES.PLACEHOLDER_API_NOT_FOUND);
+            return false;
+        }
+
+        try {
+            expansion = new ExtraPlaceholdersExpansion(this);
+
+            if (expansion.register()) {
+                logger.success(Configuration.MESSAGES.EXPANSION_REGISTERED);
+                return true;
+            } else {
+                logger.error(Configuration.MESSAGES.EXPANSION_FAILED);
+                return false;
+            }
+        } catch (Exception e) {
+            logger.error("Failed to register expansion: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Unregisters the PlaceholderAPI expansion
+     */
+    private void unregisterExpansion() {
+        if (expansion != null) {
+            try {
+                expansion.unregister();
+            } catch (Exception e) {
+                logger.error("Failed to unregister expansion: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Starts background services owned by the expansion
+     */
+    private void startServices() {
+        expansion.getClock().start();
+        expansion.getViewerLocales().start();
+        expansion.getTickMonitor().start();
+        expansion.getLoadShedder().start();
+        expansion.getPrecomputeService().start();
+        expansion.getSubscriptionService().start();
+        startMetricsEndpoint();
+        startConfigWatcher();
+    }
+
+    /**
+     * Warms up formatters and handlers in the background if enabled
+     */
+    private void startWarmup() {
+        if (!Configuration.WARMUP.ENABLED) {
+            return;
+        }
+
+        StartupWarmup.start(this, expansion.getHandlers(),
+                duration -> logger.info("Warmup finished in " + duration + "ms"));
+    }
+
+    /**
+     * Starts watching config.yml if hot reload is enabled
+     */
+    private void startConfigWatcher() {
+        if (!Configuration.HOT_RELOAD.ENABLED) {
+            return;
+        }
+
+        Path file = getConfigFile();
+
+        try {
+            lastLoadedConfig = Files.readString(file);
+            configWatcher = new ConfigWatcher(file, Configuration.HOT_RELOAD.DEBOUNCE_MS, this::reloadChangedConfiguration);
+            configWatcher.start();
+        } catch (Exception e) {
+            logger.error("Failed to watch configuration: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Validates config.yml after it changed on disk and applies it on the main thread
+     * Runs on the watcher thread; the previous configuration stays active if the file is invalid
+     */
+    private void reloadChangedConfiguration() {
+        try {
+            if (Files.readString(getConfigFile()).equals(lastLoadedConfig)) {
+                return;
+            }
+        } catch (IOException e) {
+            logger.error("Failed to read " + CONFIG_FILE_NAME + ": " + e.getMessage());
+            return;
+        }
+
+        reloadAsync(duration -> logger.success(Configuration.MESSAGES.RELOAD_SUCCESS
+                        .replace("<duration>", String.valueOf(duration))),
+                error -> logger.error(Configuration.MESSAGES.RELOAD_ERROR));
+    }
+
+    /**
+     * Reads, parses and validates config.yml once off the main thread, together with the handler
+     * state derived from it, then applies the prepared values on the main thread
+     * An invalid file is rejected before any field changes
+     *
+     * @param onSuccess called on the main thread with the reload duration in milliseconds
+     * @param onFailure called on the main thread with the failure
+     */
+    public void reloadAsync(LongConsumer onSuccess, Consumer<Exception> onFailure) {
+        long startTime = System.currentTimeMillis();
+
+        getServer().getScheduler().runTaskAsynchronously(this, () -> {
+            PreparedConfig config;
+            Runnable publishHandlers;
+
+            try {
+                config = ConfigValidator.prepare(Configuration.class, Files.readString(getConfigFile()));
+                publishHandlers = expansion != null ? expansion.prepareReload(config) : () -> { };
+            } catch (Exception e) {
+                logger.error("Ignoring invalid " + CONFIG_FILE_NAME + ": " + e.getMessage());
+                getServer().getScheduler().runTask(this, () -> onFailure.accept(e));
+                return;
+            }
+
+            getServer().getScheduler().runTask(this, () -> {
+                try {
+                    applyConfiguration(config, publishHandlers);
+                    onSuccess.accept(System.currentTimeMillis() - startTime);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    onFailure.accept(e);
+                }
+            });
+        });
+    }
+
+    /**
+     * Gets the path of config.yml
+     *
+     * @return the config file path
+     */
+    private Path getConfigFile() {
+        return getDataFolder().toPath().resolve(CONFIG_FILE_NAME);
+    }
+
+    /**
+     * Starts the Prometheus endpoint if enabled
+     */
+    private void startMetricsEndpoint() {
+        if (!Configuration.METRICS.HTTP_ENABLED) {
+            return;
+        }
+
+        try {
+            prometheusExporter.start(Configuration.METRICS.HTTP_HOST, Configuration.METRICS.HTTP_PORT);
+            logger.info("Metrics endpoint listening on " + Configuration.METRICS.HTTP_HOST + ":" + Configuration.METRICS.HTTP_PORT);
+        } catch (Exception e) {
+            logger.error("Failed to start metrics endpoint: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops background services owned by the expansion
+     */
+    private void stopServices() {
+        prometheusExporter.stop();
+
+        if (configWatcher != null) {
+            configWatcher.stop();
+            configWatcher = null;
+        }
+
+        if (expansion != null) {
+            expansion.getPrecomputeService().shutdown();
+            expansion.getSubscriptionService().shutdown();
+            expansion.getLoadShedder().shutdown();
+            expansion.getTickMonitor().shutdown();
+            expansion.getClock().shutdown();
+            expansion.getViewerLocales().shutdown();
+            stopTraceCapture();
+        }
+
+        Initializer.shutdown();
+        statsStore.shutdown();
+    }
+
+    /**
+     * Flushes a running trace capture so it stays readable
+     */
+    private void stopTraceCapture() {
+        try {
+            expansion.getTraceRecorder().stop();
+        } catch (Exception e) {
+            logger.error("Failed to stop trace capture: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Registers plugin commands
+     */
+    private void registerCommands() {
+        try {
+            CommandHandler commandHandler = new BukkitCommandHandler(this);
+            commandHandler.setLocale(createCommandLocale());
+            commandHandler.register(new MainCommand(this));
+        } catch (Exception e) {
+            logger.error("Failed to register commands: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates command locale with custom messages
+     *
+     * @return configured CommandLocale
+     */
+    private CommandLocale createCommandLocale() {
+        return new CommandLocale() {
+            @Override
+            public List<String> getNoPermission() {
+                return Collections.singletonList(
+                        MessageUtil.colorize(Configuration.MESSAGES.NO_PERMISSION)
+                );
+            }
+        };
+    }
+
+    /**
+     * Checks if PlaceholderAPI is present
+     *
+     * @return true if PlaceholderAPI is loaded
+     */
+    private boolean isPlaceholderAPIPresent() {
+        return getServer().getPluginManager().getPlugin(PLACEHOLDERAPI_NAME) != null;
+    }
+
+    /**
+     * Disables the plugin
+     */
+    private void disablePlugin() {
+        getServer().getPluginManager().disablePlugin(this);
+    }
+
+    /**
+     * Logs plugin enabled message
+     */
+    private void logPluginEnabled() {
+        String message = Configuration.MESSAGES.PLUGIN_ENABLED
+                .replace("<version>", getDescription().getVersion());
+        logger.info(message);
+    }
+
+    /**
+     * Logs plugin ready message
+     */
+    private void logPluginReady() {
+        String message = Configuration.MESSAGES.PLUGIN_ENABLED
+                .replace("<version>", getDescription().getVersion());
+        logger.success(message);
+    }
+
+    /**
+     * Logs plugin disabled message
+     */
+    private void logPluginDisabled() {
+        logger.info(Configuration.MESSAGES.PLUGIN_DISABLED);
+    }
+
+    /**
+     * Copies prepared config values into the static config fields and publishes handler state
+     * Must be called on the main thread; the precompute, clock and warmup threads read the same
+     * fields without locking and may briefly see a mix of old and new values, all of them validated
+     *
+     * @param config the prepared config values
+     * @param publishHandlers the task publishing handler state built from the same values
+     */
+    private void applyConfiguration(PreparedConfig config, Runnable publishHandlers) {
+        ConfigReloadEvent event = new ConfigReloadEvent();
+        event.begin();
+        String outcome = ConfigReloadEvent.OUTCOME_ERROR;
+
+        try {
+            config.apply();
+            publishHandlers.run();
+            lastLoadedConfig = config.getContent();
+
+            if (expansion != null) {
+                startWarmup();
+            }
+
+            outcome = ConfigReloadEvent.OUTCOME_SUCCESS;
+        } finally {
+            event.commit(config.size(), outcome);
+        }
+    }
+
+    /**
+     * Subscribes to value changes of an ExtraPlaceholders placeholder
+     * The listener is called on the main thread with the first resolved value
+     * and afterwards only when the value actually changes
+     *
+     * @param player the player to resolve the placeholder for
+     * @param placeholder the placeholder, e.g. "%extraplaceholders_server_date%"
+     * @param listener the listener to notify
+     * @return the subscription handle
+     * @throws IllegalStateException if the expansion is not registered
+     * @throws IllegalArgumentException if the placeholder is not handled by this expansion
+     */
+    public static Subscription subscribe(Player player, String placeholder, PlaceholderListener listener) {
+        return requireExpansion().getSubscriptionService().subscribe(player, placeholder, listener);
+    }
+
+    /**
+     * Resolves many placeholders for many players in a single batch
+     * Each player's Bolt match and Phoenix profile is fetched at most once
+     *
+     * @param players the players to resolve for, one row each
+     * @param placeholders the placeholders to resolve, one column each
+     * @return the dense result matrix
+     * @throws IllegalStateException if the expansion is not registered
+     */
+    public static PlaceholderMatrix resolveAll(Collection<? extends OfflinePlayer> players, List<String> placeholders) {
+        return requireExpansion().resolveAll(players, placeholders);
+    }
+
+    /**
+     * Compiles a whole line into a template that renders without rescanning
+     * Other expansions' tokens in the line are still resolved through PlaceholderAPI
+     *
+     * @param line the raw line, e.g. "&eDate: &f%extraplaceholders_server_date%"
+     * @return the compiled template
+     * @throws IllegalStateException if the expansion is not registered
+     */
+    public static PlaceholderTemplate compileTemplate(String line) {
+        return requireExpansion().compileTemplate(line);
+    }
+
+    /**
+     * Registers a handler served as %extraplaceholders_<type>_...%
+     * Params are validated against the handler's schemas once per distinct placeholder,
+     * and the handler can be unregistered again without a restart
+     *
+     * @param handler the handler to register
+     * @return the registration handle
+     * @throws IllegalStateException if the expansion is not registered
+     * @throws IllegalArgumentException if the type is invalid or already registered
+     */
+    public static HandlerRegistration registerHandler(ExtraPlaceholderHandler handler) {
+        return requireExpansion().registerHandler(handler);
+    }
+
+    /**
+     * Gets the registered expansion or fails if the plugin is not ready
+     *
+     * @return the registered expansion
+     */
+    private static ExtraPlaceholdersExpansion requireExpansion() {
+        if (instance == null || instance.expansion == null) {
+            throw new IllegalStateException("ExtraPlaceholders expansion is not registered");
+        }
+
+        return instance.expansion;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.shedux.extraplaceholders.api;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Listener notified when a subscribed placeholder resolves to a new value
+ * Always invoked on the main server thread
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface PlaceholderListener {
+
+    /**
+     * Called when the resolved value differs from the last delivered one
+     *
+     * @param player the player the placeholder is resolved for
+     * @param placeholder the placeholder params, without identifier
+     * @param oldValue the previously delivered value, null on first delivery
+     * @param newValue the newly resolved value
+     */
+    void onChange(Player player, String placeholder, String oldValue, String newValue);
+}
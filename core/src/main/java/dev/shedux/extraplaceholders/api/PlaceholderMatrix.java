@@ -0,0 +1,59 @@
+package dev.shedux.extraplaceholders.api;
+
+import lombok.Getter;
+import org.bukkit.OfflinePlayer;
+
+import java.util.List;
+
+/**
+ * Dense result of a bulk resolution
+ * Rows follow the player order, columns follow the placeholder order
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class PlaceholderMatrix {
+
+    @Getter
+    private final List<OfflinePlayer> players;
+
+    @Getter
+    private final List<String> placeholders;
+
+    private final String[][] values;
+
+    /**
+     * Creates a new result matrix
+     *
+     * @param players the resolved players, one per row
+     * @param placeholders the resolved placeholders, one per column
+     * @param values the resolved values indexed by [row][column]
+     */
+    public PlaceholderMatrix(List<OfflinePlayer> players, List<String> placeholders, String[][] values) {
+        this.players = players;
+        this.placeholders = placeholders;
+        this.values = values;
+    }
+
+    /**
+     * Gets a single resolved value
+     *
+     * @param row the player index
+     * @param column the placeholder index
+     * @return the resolved value, may be null
+     */
+    public String get(int row, int column) {
+        return values[row][column];
+    }
+
+    /**
+     * Gets all resolved values for one player
+     * The returned array is backed by this matrix
+     *
+     * @param row the player index
+     * @return the values in placeholder order
+     */
+    public String[] getRow(int row) {
+        return values[row];
+    }
+}
@@ -0,0 +1,22 @@
+package dev.shedux.extraplaceholders.api;
+
+/**
+ * Handle for an active placeholder subscription
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public interface Subscription {
+
+    /**
+     * Stops delivering changes to the subscribed listener
+     */
+    void unsubscribe();
+
+    /**
+     * Checks if the subscription is still active
+     *
+     * @return true if changes are still delivered
+     */
+    boolean isActive();
+}
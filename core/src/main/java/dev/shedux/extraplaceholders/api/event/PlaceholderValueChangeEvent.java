@@ -0,0 +1,48 @@
+package dev.shedux.extraplaceholders.api.event;
+
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+/**
+ * Called when a subscribed placeholder resolves to a different value
+ * than the one last delivered for the same player
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@Getter
+public final class PlaceholderValueChangeEvent extends Event {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Player player;
+    private final String placeholder;
+    private final String oldValue;
+    private final String newValue;
+
+    /**
+     * Creates a new value change event
+     *
+     * @param player the player the placeholder is resolved for
+     * @param placeholder the placeholder params, without identifier
+     * @param oldValue the previously delivered value, null on first delivery
+     * @param newValue the newly resolved value
+     */
+    public PlaceholderValueChangeEvent(Player player, String placeholder, String oldValue, String newValue) {
+        this.player = player;
+        this.placeholder = placeholder;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,90 @@
+package dev.shedux.extraplaceholders.api.handler;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Declared shape of a handler's arguments, without the handler type token
+ * Params are matched against the schema once when a placeholder is compiled
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@Getter
+public final class ArgumentSchema {
+
+    private static final String PARAM_SEPARATOR = "_";
+
+    private final List<ArgumentToken> tokens;
+
+    private ArgumentSchema(List<ArgumentToken> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Creates a schema from its tokens
+     *
+     * @param tokens the tokens in order
+     * @return the schema
+     * @throws IllegalArgumentException if a name repeats or a remainder is not last
+     */
+    public static ArgumentSchema of(ArgumentToken... tokens) {
+        List<ArgumentToken> list = List.of(tokens);
+        Set<String> names = new HashSet<>();
+
+        for (int i = 0; i < list.size(); i++) {
+            ArgumentToken token = list.get(i);
+
+            if (token instanceof ArgumentToken.Remainder && i != list.size() - 1) {
+                throw new IllegalArgumentException("A remainder token must be the last token of a schema");
+            }
+
+            String name = token.name();
+            if (name != null && !names.add(name)) {
+                throw new IllegalArgumentException("Duplicate argument name: " + name);
+            }
+        }
+
+        return new ArgumentSchema(list);
+    }
+
+    /**
+     * Binds parsed params to this schema
+     *
+     * @param args the params split on underscores, without the handler type
+     * @return the bound arguments, or null if the params do not match
+     */
+    public BoundArguments bind(List<String> args) {
+        boolean hasRemainder = !tokens.isEmpty() && tokens.get(tokens.size() - 1) instanceof ArgumentToken.Remainder;
+
+        if (hasRemainder ? args.size() < tokens.size() : args.size() != tokens.size()) {
+            return null;
+        }
+
+        Map<String, String> values = new HashMap<>();
+
+        for (int i = 0; i < tokens.size(); i++) {
+            ArgumentToken token = tokens.get(i);
+            String input = token instanceof ArgumentToken.Remainder
+                    ? String.join(PARAM_SEPARATOR, args.subList(i, args.size()))
+                    : args.get(i);
+            String value = token.match(input);
+
+            if (value == null) {
+                return null;
+            }
+
+            String name = token.name();
+            if (name != null) {
+                values.put(name, value);
+            }
+        }
+
+        return new BoundArguments(this, Map.copyOf(values));
+    }
+}
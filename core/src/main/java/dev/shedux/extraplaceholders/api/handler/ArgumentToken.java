@@ -0,0 +1,132 @@
+package dev.shedux.extraplaceholders.api.handler;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * One token of an argument schema
+ * Literals must match exactly, choices accept one of a fixed set, text accepts any single token
+ * and a remainder takes every remaining token joined by underscores
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public sealed interface ArgumentToken {
+
+    /**
+     * Creates a token that must match a fixed word, case-insensitively
+     *
+     * @param value the word
+     * @return the literal token
+     */
+    static ArgumentToken literal(String value) {
+        return new Literal(value.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Creates a named token accepting one of a fixed set, e.g. rule names or locales
+     * Bound values are lower-cased
+     *
+     * @param name the argument name
+     * @param values the accepted values
+     * @return the choice token
+     */
+    static ArgumentToken choice(String name, Collection<String> values) {
+        return new Choice(name, values.stream()
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * Creates a named token accepting any single value
+     *
+     * @param name the argument name
+     * @return the text token
+     */
+    static ArgumentToken text(String name) {
+        return new Text(name);
+    }
+
+    /**
+     * Creates a named token taking every remaining token, joined by underscores
+     * Must be the last token of a schema
+     *
+     * @param name the argument name
+     * @return the remainder token
+     */
+    static ArgumentToken remainder(String name) {
+        return new Remainder(name);
+    }
+
+    /**
+     * Gets the argument name the token binds to
+     *
+     * @return the name, or null for literals
+     */
+    String name();
+
+    /**
+     * Matches a single input token
+     *
+     * @param input the raw token
+     * @return the bound value, or null if the token does not match
+     */
+    String match(String input);
+
+    /**
+     * Literal word, binds no value
+     *
+     * @param value the lower-case word
+     */
+    record Literal(String value) implements ArgumentToken {
+        @Override
+        public String name() {
+            return null;
+        }
+
+        @Override
+        public String match(String input) {
+            return value.equalsIgnoreCase(input) ? value : null;
+        }
+    }
+
+    /**
+     * Named token from a fixed set
+     *
+     * @param name the argument name
+     * @param values the lower-case accepted values
+     */
+    record Choice(String name, Set<String> values) implements ArgumentToken {
+        @Override
+        public String match(String input) {
+            String normalized = input.toLowerCase(Locale.ROOT);
+            return values.contains(normalized) ? normalized : null;
+        }
+    }
+
+    /**
+     * Named free-form token
+     *
+     * @param name the argument name
+     */
+    record Text(String name) implements ArgumentToken {
+        @Override
+        public String match(String input) {
+            return input.isEmpty() ? null : input;
+        }
+    }
+
+    /**
+     * Named token taking the rest of the params
+     *
+     * @param name the argument name
+     */
+    record Remainder(String name) implements ArgumentToken {
+        @Override
+        public String match(String input) {
+            return input.isEmpty() ? null : input;
+        }
+    }
+}
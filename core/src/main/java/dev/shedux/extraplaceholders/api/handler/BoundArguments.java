@@ -0,0 +1,52 @@
+package dev.shedux.extraplaceholders.api.handler;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Arguments of a compiled placeholder, bound to the schema they matched
+ * Bound once per distinct placeholder and shared between requests
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class BoundArguments {
+
+    @Getter
+    private final ArgumentSchema schema;
+
+    private final Map<String, String> values;
+
+    BoundArguments(ArgumentSchema schema, Map<String, String> values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    /**
+     * Gets a named argument
+     *
+     * @param name the argument name
+     * @return the bound value
+     * @throws IllegalArgumentException if the matched schema has no such argument
+     */
+    public String get(String name) {
+        String value = values.get(name);
+
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown argument: " + name);
+        }
+
+        return value;
+    }
+
+    /**
+     * Checks which schema matched
+     *
+     * @param schema the schema to compare
+     * @return true if these arguments were bound to it
+     */
+    public boolean matches(ArgumentSchema schema) {
+        return this.schema == schema;
+    }
+}
@@ -0,0 +1,54 @@
+package dev.shedux.extraplaceholders.api.handler;
+
+import org.bukkit.OfflinePlayer;
+
+import java.util.List;
+
+/**
+ * Third-party handler served under the extraplaceholders_ namespace
+ * Register it with {@link dev.shedux.extraplaceholders.ExtraPlaceholders#registerHandler(ExtraPlaceholderHandler)}
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public interface ExtraPlaceholderHandler {
+
+    /**
+     * Gets the handler type, the first token after extraplaceholders_
+     * Must not contain underscores
+     *
+     * @return the handler type
+     */
+    String getType();
+
+    /**
+     * Gets the accepted argument shapes, tried in order
+     *
+     * @return the schemas
+     */
+    List<ArgumentSchema> getSchemas();
+
+    /**
+     * Resolves a placeholder whose params matched one of the schemas
+     *
+     * @param player the player for whom the placeholder is being resolved, may be null
+     * @param arguments the pre-bound arguments
+     * @return the resolved value, or null if not handled
+     */
+    String handle(OfflinePlayer player, BoundArguments arguments);
+
+    /**
+     * Whether this handler may be resolved off the main thread
+     *
+     * @return true if the handler is safe to call asynchronously
+     */
+    default boolean isAsyncSafe() {
+        return false;
+    }
+
+    /**
+     * Rebuilds state derived from the configuration after an ExtraPlaceholders reload
+     */
+    default void reload() {
+    }
+}
@@ -0,0 +1,22 @@
+package dev.shedux.extraplaceholders.api.handler;
+
+/**
+ * Handle for a registered third-party handler
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public interface HandlerRegistration {
+
+    /**
+     * Removes the handler; its placeholders resolve to nothing afterwards
+     */
+    void unregister();
+
+    /**
+     * Checks if the handler is still registered
+     *
+     * @return true if its placeholders are still served
+     */
+    boolean isRegistered();
+}
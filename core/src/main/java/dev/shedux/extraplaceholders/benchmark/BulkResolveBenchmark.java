@@ -0,0 +1,141 @@
+package dev.shedux.extraplaceholders.benchmark;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Compares bulk resolution against one onRequest call per value
+ * Passes run on the main thread against the live handlers, sliced across ticks
+ * under the benchmark tick budget so large iteration counts never stall the server
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class BulkResolveBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final ExtraPlaceholdersExpansion expansion;
+    private final List<OfflinePlayer> players;
+    private final List<String> params;
+    private final int iterations;
+    private final Consumer<Result> onResult;
+
+    private BukkitTask task;
+    private int warmupDone;
+    private int perCallDone;
+    private int bulkDone;
+    private long perCallNanos;
+    private long bulkNanos;
+    private int sink;
+
+    private BulkResolveBenchmark(ExtraPlaceholdersExpansion expansion, List<OfflinePlayer> players,
+                                 List<String> params, int iterations, Consumer<Result> onResult) {
+        this.expansion = expansion;
+        this.players = players;
+        this.params = params;
+        this.iterations = iterations;
+        this.onResult = onResult;
+    }
+
+    /**
+     * Starts timing both resolution paths over the same players and placeholders
+     *
+     * @param plugin the owning plugin
+     * @param expansion the registered expansion
+     * @param players the players to resolve for, snapshotted at start
+     * @param placeholders the placeholders to resolve
+     * @param iterations how many full passes to time per path
+     * @param onResult called on the main thread once both paths were timed
+     */
+    public static void start(JavaPlugin plugin, ExtraPlaceholdersExpansion expansion,
+                             Collection<? extends OfflinePlayer> players, List<String> placeholders,
+                             int iterations, Consumer<Result> onResult) {
+        List<String> params = placeholders.stream().map(expansion::toParams).toList();
+        BulkResolveBenchmark benchmark = new BulkResolveBenchmark(expansion, List.copyOf(players), params,
+                iterations, onResult);
+        benchmark.task = Bukkit.getScheduler().runTaskTimer(plugin, benchmark::tick, 1L, 1L);
+    }
+
+    /**
+     * Runs whole passes until this tick's budget is spent
+     */
+    private void tick() {
+        long tickStart = System.nanoTime();
+        long budget = Configuration.BENCHMARK.TICK_BUDGET_MS * NANOS_PER_MILLI;
+
+        while (bulkDone < iterations && System.nanoTime() - tickStart < budget) {
+            if (warmupDone < WARMUP_ITERATIONS) {
+                sink += runPerCall() + runBulk();
+                warmupDone++;
+            } else if (perCallDone < iterations) {
+                long start = System.nanoTime();
+                sink += runPerCall();
+                perCallNanos += System.nanoTime() - start;
+                perCallDone++;
+            } else {
+                long start = System.nanoTime();
+                sink += runBulk();
+                bulkNanos += System.nanoTime() - start;
+                bulkDone++;
+            }
+        }
+
+        if (bulkDone >= iterations) {
+            task.cancel();
+
+            long operations = (long) players.size() * params.size() * iterations;
+            onResult.accept(new Result(players.size(), params.size(), iterations,
+                    perOperation(perCallNanos, operations), perOperation(bulkNanos, operations)));
+        }
+    }
+
+    private int runPerCall() {
+        int hash = 0;
+        for (OfflinePlayer player : players) {
+            for (String param : params) {
+                hash += Objects.hashCode(expansion.onRequest(player, param));
+            }
+        }
+        return hash;
+    }
+
+    private int runBulk() {
+        return expansion.resolveAll(players, params).hashCode();
+    }
+
+    private double perOperation(long nanos, long operations) {
+        return operations == 0 ? 0 : (double) nanos / operations;
+    }
+
+    /**
+     * Result of a bulk benchmark run
+     *
+     * @param players number of players per pass
+     * @param placeholders number of placeholders per pass
+     * @param iterations number of timed passes per path
+     * @param perCallNanos average nanoseconds per value on the per-call path
+     * @param bulkNanos average nanoseconds per value on the bulk path
+     */
+    public record Result(int players, int placeholders, int iterations, double perCallNanos, double bulkNanos) {
+
+        /**
+         * Gets how many times faster the bulk path was
+         *
+         * @return the speedup factor
+         */
+        public double speedup() {
+            return bulkNanos == 0 ? 0 : perCallNanos / bulkNanos;
+        }
+    }
+}
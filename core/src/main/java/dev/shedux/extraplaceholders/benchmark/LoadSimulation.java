@@ -0,0 +1,177 @@
+package dev.shedux.extraplaceholders.benchmark;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import dev.shedux.extraplaceholders.metrics.AllocationSampler;
+import dev.shedux.extraplaceholders.metrics.LatencyHistogram;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Simulates many scoreboard viewers refreshing placeholders
+ * A refresh round resolves every placeholder once for every viewer. Rounds are driven either
+ * in-game, sliced across ticks under the benchmark tick budget, or by the offline load test
+ * against in-memory fakes. Viewers are mapped round-robin onto the given players
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class LoadSimulation {
+
+    private static final long TICKS_PER_SECOND = 20L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ExtraPlaceholdersExpansion expansion;
+    private final int viewers;
+    private final List<String> params;
+
+    private final LatencyHistogram resolveHistogram = new LatencyHistogram();
+    private final LatencyHistogram roundHistogram = new LatencyHistogram();
+
+    private BukkitTask task;
+    private long ticks;
+    private int cursor;
+    private long roundNanos;
+    private long rounds;
+    private long resolutions;
+    private long busyNanos;
+    private long allocatedBytes;
+    private int sink;
+
+    /**
+     * Creates a new load simulation
+     *
+     * @param expansion the expansion to resolve against
+     * @param viewers the number of simulated scoreboard viewers
+     * @param placeholders the placeholders every viewer refreshes each round
+     */
+    public LoadSimulation(ExtraPlaceholdersExpansion expansion, int viewers, List<String> placeholders) {
+        this.expansion = expansion;
+        this.viewers = viewers;
+        this.params = placeholders.stream().map(expansion::toParams).toList();
+    }
+
+    /**
+     * Starts a load simulation on the main thread
+     * Each tick resolves viewers until the benchmark tick budget is spent, so a round
+     * that does not fit into one tick continues on the next one instead of stalling the server
+     *
+     * @param plugin the owning plugin
+     * @param expansion the expansion to resolve against
+     * @param viewers the number of simulated scoreboard viewers
+     * @param placeholders the placeholders every viewer refreshes each round
+     * @param seconds how long to run the simulation
+     * @param callback called on the main thread with the result
+     */
+    public static void start(JavaPlugin plugin, ExtraPlaceholdersExpansion expansion, int viewers,
+                             List<String> placeholders, int seconds, Consumer<Result> callback) {
+        LoadSimulation simulation = new LoadSimulation(expansion, viewers, placeholders);
+        long totalTicks = seconds * TICKS_PER_SECOND;
+
+        simulation.task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            simulation.step(new ArrayList<>(Bukkit.getOnlinePlayers()),
+                    Configuration.BENCHMARK.TICK_BUDGET_MS * NANOS_PER_MILLI);
+
+            if (++simulation.ticks >= totalTicks) {
+                simulation.task.cancel();
+                callback.accept(simulation.getResult());
+            }
+        }, 1L, 1L);
+    }
+
+    /**
+     * Resolves viewers of the current round until the round completes or the budget is spent
+     *
+     * @param players the players viewers are mapped onto, resolved without a player if empty
+     * @param budgetNanos the maximum time to spend, {@link Long#MAX_VALUE} for a whole round
+     * @return true if this call completed a round
+     */
+    public boolean step(List<? extends OfflinePlayer> players, long budgetNanos) {
+        long startBytes = AllocationSampler.currentThreadAllocatedBytes();
+        long stepStart = System.nanoTime();
+
+        while (cursor < viewers && System.nanoTime() - stepStart < budgetNanos) {
+            OfflinePlayer player = players.isEmpty() ? null : players.get(cursor % players.size());
+
+            for (String param : params) {
+                long startTime = System.nanoTime();
+                sink += Objects.hashCode(expansion.onRequest(player, param));
+                resolveHistogram.record(System.nanoTime() - startTime);
+            }
+
+            cursor++;
+        }
+
+        long stepNanos = System.nanoTime() - stepStart;
+
+        if (startBytes >= 0) {
+            allocatedBytes += AllocationSampler.currentThreadAllocatedBytes() - startBytes;
+        }
+
+        busyNanos += stepNanos;
+        roundNanos += stepNanos;
+
+        if (cursor < viewers) {
+            return false;
+        }
+
+        roundHistogram.record(roundNanos);
+        resolutions += (long) viewers * params.size();
+        rounds++;
+        cursor = 0;
+        roundNanos = 0;
+        return true;
+    }
+
+    /**
+     * Advances the tick counter for simulations driven outside the scheduler
+     */
+    public void countTick() {
+        ticks++;
+    }
+
+    /**
+     * Summarizes every completed round so far
+     *
+     * @return the result
+     */
+    public Result getResult() {
+        long bytesPerResolution = !AllocationSampler.isSupported() || resolutions == 0 ? -1 : allocatedBytes / resolutions;
+        double throughput = busyNanos == 0 ? 0 : resolutions * NANOS_PER_SECOND / busyNanos;
+
+        return new Result(viewers, params.size(), ticks, rounds, resolutions, throughput,
+                resolveHistogram.getPercentile(50), resolveHistogram.getPercentile(99),
+                resolveHistogram.getPercentile(99.9), resolveHistogram.getMax(),
+                roundHistogram.getPercentile(50), roundHistogram.getPercentile(99),
+                bytesPerResolution);
+    }
+
+    /**
+     * Result of a load simulation
+     *
+     * @param viewers simulated viewers
+     * @param placeholders placeholders per viewer
+     * @param ticks simulated ticks
+     * @param rounds completed refresh rounds, fewer than ticks if a round did not fit into a tick
+     * @param resolutions total resolutions in completed rounds
+     * @param throughput resolutions per second of busy time
+     * @param p50 median resolution latency
+     * @param p99 99th percentile resolution latency
+     * @param p999 99.9th percentile resolution latency
+     * @param max highest resolution latency
+     * @param roundP50 median busy time per round
+     * @param roundP99 99th percentile busy time per round
+     * @param bytesPerResolution allocated bytes per resolution, -1 if unsupported
+     */
+    public record Result(int viewers, int placeholders, long ticks, long rounds, long resolutions, double throughput,
+                         long p50, long p99, long p999, long max, long roundP50, long roundP99,
+                         long bytesPerResolution) {}
+}
@@ -0,0 +1,154 @@
+package dev.shedux.extraplaceholders.benchmark;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.expansion.CompiledPlaceholder;
+import dev.shedux.extraplaceholders.metrics.AllocationSampler;
+import dev.shedux.extraplaceholders.metrics.LatencyHistogram;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Measures placeholder cost on the live JVM in tick-sliced batches
+ * Each tick resolves until the configured budget is spent, so a long
+ * benchmark never stalls the server for more than one budget per tick
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class PlaceholderBenchmark {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final List<CompiledPlaceholder> placeholders;
+    private final OfflinePlayer player;
+    private final int iterations;
+    private final Consumer<Result> onResult;
+    private final Runnable onComplete;
+
+    private BukkitTask task;
+    private int current;
+    private int warmupDone;
+    private int measured;
+    private long totalNanos;
+    private long allocatedBytes;
+    private LatencyHistogram histogram = new LatencyHistogram();
+    private int sink;
+
+    private PlaceholderBenchmark(List<CompiledPlaceholder> placeholders, OfflinePlayer player, int iterations,
+                                 Consumer<Result> onResult, Runnable onComplete) {
+        this.placeholders = placeholders;
+        this.player = player;
+        this.iterations = iterations;
+        this.onResult = onResult;
+        this.onComplete = onComplete;
+    }
+
+    /**
+     * Starts benchmarking placeholders one after another
+     *
+     * @param plugin the owning plugin
+     * @param placeholders the placeholders to benchmark
+     * @param player the player to resolve for
+     * @param iterations measured iterations per placeholder
+     * @param onResult called on the main thread after each placeholder
+     * @param onComplete called on the main thread once every placeholder was measured
+     */
+    public static void start(JavaPlugin plugin, List<CompiledPlaceholder> placeholders, OfflinePlayer player,
+                             int iterations, Consumer<Result> onResult, Runnable onComplete) {
+        PlaceholderBenchmark benchmark = new PlaceholderBenchmark(placeholders, player, iterations, onResult, onComplete);
+        benchmark.task = Bukkit.getScheduler().runTaskTimer(plugin, benchmark::tick, 1L, 1L);
+    }
+
+    /**
+     * Runs warmup and measured iterations until this tick's budget is spent
+     */
+    private void tick() {
+        long tickStart = System.nanoTime();
+        long budget = Configuration.BENCHMARK.TICK_BUDGET_MS * NANOS_PER_MILLI;
+
+        while (current < placeholders.size() && System.nanoTime() - tickStart < budget) {
+            CompiledPlaceholder placeholder = placeholders.get(current);
+
+            if (warmupDone < Configuration.BENCHMARK.WARMUP_ITERATIONS) {
+                resolveQuietly(placeholder);
+                warmupDone++;
+                continue;
+            }
+
+            measure(placeholder);
+
+            if (measured >= iterations) {
+                onResult.accept(createResult(placeholder));
+                nextPlaceholder();
+            }
+        }
+
+        if (current >= placeholders.size()) {
+            task.cancel();
+            onComplete.run();
+        }
+    }
+
+    private void measure(CompiledPlaceholder placeholder) {
+        long startBytes = AllocationSampler.currentThreadAllocatedBytes();
+        long startTime = System.nanoTime();
+
+        resolveQuietly(placeholder);
+        long duration = System.nanoTime() - startTime;
+
+        if (startBytes >= 0) {
+            allocatedBytes += AllocationSampler.currentThreadAllocatedBytes() - startBytes;
+        }
+
+        histogram.record(duration);
+        totalNanos += duration;
+        measured++;
+    }
+
+    private void resolveQuietly(CompiledPlaceholder placeholder) {
+        try {
+            sink += Objects.hashCode(placeholder.resolve(player));
+        } catch (Exception ignored) {
+            // Failures are counted in the placeholder's own error metrics
+        }
+    }
+
+    private Result createResult(CompiledPlaceholder placeholder) {
+        long bytesPerOp = AllocationSampler.isSupported() ? allocatedBytes / measured : -1;
+
+        return new Result(placeholder.getParams(), placeholder.getHandler().getHandlerType(), measured,
+                (double) totalNanos / measured, histogram.getPercentile(50), histogram.getPercentile(90),
+                histogram.getPercentile(99), histogram.getMax(), bytesPerOp);
+    }
+
+    private void nextPlaceholder() {
+        current++;
+        warmupDone = 0;
+        measured = 0;
+        totalNanos = 0;
+        allocatedBytes = 0;
+        histogram = new LatencyHistogram();
+    }
+
+    /**
+     * Result of benchmarking one placeholder
+     *
+     * @param params the placeholder params
+     * @param handler the handler type
+     * @param iterations measured iterations
+     * @param nanosPerOp average nanoseconds per resolution
+     * @param p50 median latency
+     * @param p90 90th percentile latency
+     * @param p99 99th percentile latency
+     * @param max highest latency
+     * @param bytesPerOp allocated bytes per resolution, -1 if unsupported
+     */
+    public record Result(String params, String handler, int iterations, double nanosPerOp,
+                         long p50, long p90, long p99, long max, long bytesPerOp) {}
+}
@@ -0,0 +1,126 @@
+package dev.shedux.extraplaceholders.clock;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coarse wall clock shared by all placeholders
+ * Updated once per tick on the main thread, with a daemon thread as fallback
+ * while the main thread is stalled. Reading the time is a volatile load, and
+ * every placeholder resolved in the same tick sees the same timestamp
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class ServerClock {
+
+    private static final long FALLBACK_PERIOD_MILLIS = 250L;
+    private static final long MILLIS_PER_SECOND = 1_000L;
+
+    private final JavaPlugin plugin;
+    private final AtomicLong epochMillis = new AtomicLong(System.currentTimeMillis());
+    private final Map<ZoneId, CachedDate> dates = new ConcurrentHashMap<>();
+
+    private BukkitTask task;
+    private ScheduledExecutorService fallback;
+
+    /**
+     * Creates a new server clock
+     *
+     * @param plugin the owning plugin
+     */
+    public ServerClock(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts the per-tick update and the fallback timer
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::update, 0L, 1L);
+
+        fallback = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ExtraPlaceholders-Clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fallback.scheduleAtFixedRate(this::update, FALLBACK_PERIOD_MILLIS, FALLBACK_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops both update sources
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        if (fallback != null) {
+            fallback.shutdownNow();
+            fallback = null;
+        }
+    }
+
+    /**
+     * Gets the current time
+     *
+     * @return milliseconds since the epoch, at most one tick old
+     */
+    public long currentTimeMillis() {
+        return epochMillis.get();
+    }
+
+    /**
+     * Gets the current epoch second
+     *
+     * @return seconds since the epoch
+     */
+    public long currentEpochSecond() {
+        return epochMillis.get() / MILLIS_PER_SECOND;
+    }
+
+    /**
+     * Gets the current date in a time zone
+     * Dates are cached per zone and only recomputed when the epoch second changes
+     *
+     * @param zone the time zone
+     * @return the current local date in the zone
+     */
+    public LocalDate currentDate(ZoneId zone) {
+        long second = currentEpochSecond();
+        CachedDate cached = dates.get(zone);
+
+        if (cached != null && cached.epochSecond() == second) {
+            return cached.date();
+        }
+
+        LocalDate date = LocalDate.ofInstant(Instant.ofEpochSecond(second), zone);
+        dates.put(zone, new CachedDate(second, date));
+        return date;
+    }
+
+    /**
+     * Advances the clock, never moving it backwards
+     */
+    private void update() {
+        epochMillis.accumulateAndGet(System.currentTimeMillis(), Math::max);
+    }
+
+    private record CachedDate(long epochSecond, LocalDate date) {}
+}
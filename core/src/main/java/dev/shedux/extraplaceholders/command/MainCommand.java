@@ -0,0 +1,636 @@
+package dev.shedux.extraplaceholders.command;
+
+import dev.shedux.extraplaceholders.ExtraPlaceholders;
+import dev.shedux.extraplaceholders.api.PluginDependency;
+import dev.shedux.extraplaceholders.benchmark.BulkResolveBenchmark;
+import dev.shedux.extraplaceholders.benchmark.LoadSimulation;
+import dev.shedux.extraplaceholders.benchmark.PlaceholderBenchmark;
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.core.Initializer;
+import dev.shedux.extraplaceholders.expansion.CompiledPlaceholder;
+import dev.shedux.extraplaceholders.metrics.LatencyHistogram;
+import dev.shedux.extraplaceholders.metrics.LatencyStats;
+import dev.shedux.extraplaceholders.metrics.MetricsRegistry;
+import dev.shedux.extraplaceholders.template.PlaceholderTemplate;
+import dev.shedux.extraplaceholders.trace.TraceReader;
+import dev.shedux.extraplaceholders.trace.TraceRecord;
+import dev.shedux.extraplaceholders.trace.TraceReplay;
+import dev.shedux.extraplaceholders.trace.TraceWriter;
+import dev.shedux.extraplaceholders.util.MessageUtil;
+import net.j4c0b3y.api.command.annotation.command.Requires;
+import net.j4c0b3y.api.command.annotation.parameter.classifier.Sender;
+import net.j4c0b3y.api.command.annotation.parameter.classifier.Text;
+import net.j4c0b3y.api.command.annotation.registration.Register;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Main command handler for ExtraPlaceholders
+ * Provides reload and info subcommands with proper error handling
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@Register(name = "extraplaceholders", aliases = {"ep"}, description = "ExtraPlaceholders main command")
+@Requires("extraplaceholders.admin")
+@SuppressWarnings("unused")
+public final class MainCommand {
+
+    private static final String BENCHMARK_ALL = "all";
+
+    private final ExtraPlaceholders plugin;
+
+    /**
+     * Creates a new command instance
+     *
+     * @param plugin the main plugin instance
+     */
+    public MainCommand(ExtraPlaceholders plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Validates the plugin configuration off the main thread and applies it on the main thread
+     * Usage: /extraplaceholders reload
+     *
+     * @param player the command sender
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "reload", description = "Reload plugin configuration")
+    public void reload(@Sender Player player) {
+        plugin.reloadAsync(
+                duration -> MessageUtil.sendMessage(player, Configuration.MESSAGES.RELOAD_SUCCESS
+                        .replace("<duration>", String.valueOf(duration))),
+                error -> MessageUtil.sendMessage(player, Configuration.MESSAGES.RELOAD_ERROR));
+    }
+
+    /**
+     * Displays plugin information
+     * Usage: /extraplaceholders info
+     *
+     * @param player the command sender
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "info", description = "Show plugin information")
+    public void info(@Sender Player player) {
+        sendHeader(player);
+        sendVersion(player);
+        sendAuthor(player);
+        sendBoltStatus(player);
+        sendPhoenixStatus(player);
+    }
+
+    /**
+     * Displays per-handler and top per-placeholder latency statistics
+     * Usage: /extraplaceholders stats
+     *
+     * @param player the command sender
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "stats", description = "Show placeholder latency statistics")
+    public void stats(@Sender Player player) {
+        if (!Configuration.METRICS.ENABLED) {
+            MessageUtil.sendMessage(player, Configuration.MESSAGES.STATS_DISABLED);
+            return;
+        }
+
+        double seconds = MetricsRegistry.getElapsedSeconds();
+
+        MessageUtil.sendMessage(player, Configuration.MESSAGES.STATS_HANDLER_HEADER
+                .replace("<seconds>", String.valueOf((long) seconds)));
+
+        MetricsRegistry.getHandlerStats().stream()
+                .sorted(Comparator.comparing(LatencyStats::getName))
+                .forEach(stats -> sendStatsLine(player, stats, seconds));
+
+        MessageUtil.sendMessage(player, Configuration.MESSAGES.STATS_PLACEHOLDER_HEADER);
+
+        plugin.getExpansion().getCompiledPlaceholders().stream()
+                .map(CompiledPlaceholder::getStats)
+                .filter(stats -> stats != null && stats.getCalls() > 0)
+                .sorted(Comparator.comparingLong(LatencyStats::getTotalNanos).reversed())
+                .limit(Configuration.METRICS.STATS_TOP_PLACEHOLDERS)
+                .forEach(stats -> sendStatsLine(player, stats, seconds));
+    }
+
+    /**
+     * Resets all placeholder statistics
+     * Usage: /extraplaceholders resetstats
+     *
+     * @param player the command sender
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "resetstats", description = "Reset placeholder latency statistics")
+    public void resetStats(@Sender Player player) {
+        MetricsRegistry.reset();
+        plugin.getExpansion().getCompiledPlaceholders().stream()
+                .map(CompiledPlaceholder::getStats)
+                .filter(Objects::nonNull)
+                .forEach(LatencyStats::reset);
+
+        MessageUtil.sendMessage(player, Configuration.MESSAGES.STATS_RESET);
+    }
+
+    /**
+     * Benchmarks a placeholder for the sender, or every requested placeholder with "all"
+     * Usage: /extraplaceholders benchmark <placeholder|all> <iterations>
+     *
+     * @param player the command sender
+     * @param placeholder the placeholder to benchmark, or "all"
+     * @param iterations measured iterations per placeholder
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "benchmark", description = "Benchmark placeholder resolution")
+    public void benchmark(@Sender Player player, String placeholder, int iterations) {
+        runBenchmark(player, player, placeholder, iterations);
+    }
+
+    /**
+     * Benchmarks a placeholder, or every requested placeholder, for another player
+     * Usage: /extraplaceholders benchmarkfor <player> <placeholder|all> <iterations>
+     *
+     * @param player the command sender
+     * @param target the name of the online player to resolve for
+     * @param placeholder the placeholder to benchmark, or "all"
+     * @param iterations measured iterations per placeholder
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "benchmarkfor", description = "Benchmark placeholder resolution for a player")
+    public void benchmarkFor(@Sender Player player, String target, String placeholder, int iterations) {
+        Player targetPlayer = Bukkit.getPlayerExact(target);
+
+        if (targetPlayer == null) {
+            MessageUtil.sendMessage(player, Configuration.MESSAGES.BENCHMARK_PLAYER_NOT_FOUND
+                    .replace("<player>", target));
+            return;
+        }
+
+        runBenchmark(player, targetPlayer, placeholder, iterations);
+    }
+
+    /**
+     * Starts a tick-sliced benchmark and streams results to the sender
+     *
+     * @param player the command sender
+     * @param target the player to resolve for
+     * @param placeholder the placeholder to benchmark, or "all"
+     * @param iterations measured iterations per placeholder
+     */
+    private void runBenchmark(Player player, Player target, String placeholder, int iterations) {
+        if (iterations <= 0) {
+            MessageUtil.sendMessage(player, Configuration.MESSAGES.BENCHMARK_INVALID_ITERATIONS);
+            return;
+        }
+
+        List<CompiledPlaceholder> placeholders = getBenchmarkTargets(placeholder);
+
+        if (placeholders.isEmpty()) {
+            MessageUtil.sendMessage(player, BENCHMARK_ALL.equalsIgnoreCase(placeholder)
+                    ? Configuration.MESSAGES.BENCHMARK_NOTHING_TO_SWEEP
+                    : Configuration.MESSAGES.BENCHMARK_UNKNOWN_PLACEHOLDER);
+            return;
+        }
+
+        MessageUtil.sendMessage(player, Configuration.MESSAGES.BENCHMARK_STARTED
+                .replace("<count>", String.valueOf(placeholders.size()))
+                .replace("<player>", target.getName())
+                .replace("<iterations>", String.valueOf(iterations)));
+
+        PlaceholderBenchmark.start(plugin, placeholders, target, iterations,
+                result -> sendBenchmarkResult(player, result),
+                () -> MessageUtil.sendMessage(player, Configuration.MESSAGES.BENCHMARK_COMPLETE));
+    }
+
+    /**
+     * Gets the placeholders a benchmark should measure
+     * "all" sweeps every compiled placeholder, grouped by handler
+     *
+     * @param placeholder the placeholder argument
+     * @return the placeholders to benchmark, empty if none match
+     */
+    private List<CompiledPlaceholder> getBenchmarkTargets(String placeholder) {
+        if (BENCHMARK_ALL.equalsIgnoreCase(placeholder)) {
+            return plugin.getExpansion().getCompiledPlaceholders().stream()
+                    .sorted(Comparator.comparing((CompiledPlaceholder compiled) -> compiled.getHandler().getHandlerType())
+                            .thenComparing(CompiledPlaceholder::getParams))
+                    .toList();
+        }
+
+        CompiledPlaceholder compiled = plugin.getExpansion().compile(plugin.getExpansion().toParams(placeholder));
+        return compiled == null ? List.of() : List.of(compiled);
+    }
+
+    /**
+     * Sends a single benchmark result line
+     *
+     * @param player the command sender
+     * @param result the benchmark result
+     */
+    private void sendBenchmarkResult(Player player, PlaceholderBenchmark.Result result) {
+        String message = Configuration.MESSAGES.BENCHMARK_RESULT
+                .replace("<name>", result.params())
+                .replace("<handler>", result.handler())
+                .replace("<ns_per_op>", formatDecimal(result.nanosPerOp()))
+                .replace("<p50>", formatNanos(result.p50()))
+                .replace("<p90>", formatNanos(result.p90()))
+                .replace("<p99>", formatNanos(result.p99()))
+                .replace("<max>", formatNanos(result.max()))
+                .replace("<alloc>", result.bytesPerOp() < 0 ? "-" : formatBytes(result.bytesPerOp()));
+
+        MessageUtil.sendMessage(player, message);
+    }
+
+    /**
+     * Compares bulk resolution against per-call resolution for all online players
+     * Usage: /extraplaceholders bulkbench <iterations> <placeholder,placeholder,...>
+     *
+     * @param player the command sender
+     * @param iterations the number of timed passes per path
+     * @param placeholders comma separated placeholders to resolve
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "bulkbench", description = "Benchmark bulk placeholder resolution")
+    public void bulkBenchmark(@Sender Player player, int iterations, String placeholders) {
+        if (iterations <= 0) {
+            MessageUtil.sendMessage(player, Configuration.MESSAGES.BENCHMARK_INVALID_ITERATIONS);
+            return;
+        }
+
+        List<String> parsed = Arrays.asList(placeholders.split(","));
+        MessageUtil.sendMessage(player, Configuration.MESSAGES.BENCHMARK_RUNNING);
+
+        BulkResolveBenchmark.start(plugin, plugin.getExpansion(), Bukkit.getOnlinePlayers(), parsed, iterations, result -> {
+            String message = Configuration.MESSAGES.BULK_BENCHMARK_RESULT
+                    .replace("<players>", String.valueOf(result.players()))
+                    .replace("<placeholders>", String.valueOf(result.placeholders()))
+                    .replace("<iterations>", String.valueOf(result.iterations()))
+                    .replace("<per_call>", formatDecimal(result.perCallNanos()))
+                    .replace("<bulk>", formatDecimal(result.bulkNanos()))
+                    .replace("<speedup>", formatDecimal(result.speedup()));
+
+            MessageUtil.sendMessage(player, message);
+        });
+    }
+
+    /**
+     * Simulates scoreboard viewers refreshing placeholders, sliced across ticks under the tick budget
+     * Usage: /extraplaceholders loadtest <viewers> <seconds> <placeholder,placeholder,...>
+     *
+     * @param player the command sender
+     * @param viewers the number of simulated viewers
+     * @param seconds how long to run the simulation
+     * @param placeholders comma separated placeholders every viewer refreshes
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "loadtest", description = "Simulate scoreboard viewers refreshing placeholders")
+    public void loadTest(@Sender Player player, int viewers, int seconds, String placeholders) {
+        if (viewers <= 0 || seconds <= 0) {
+            MessageUtil.sendMessage(player, Configuration.MESSAGES.LOAD_TEST_INVALID);
+            return;
+        }
+
+        if (viewers > Configuration.BENCHMARK.MAX_LOAD_TEST_VIEWERS) {
+            MessageUtil.sendMessage(player, Configuration.MESSAGES.LOAD_TEST_TOO_MANY_VIEWERS
+                    .replace("<max>", String.valueOf(Configuration.BENCHMARK.MAX_LOAD_TEST_VIEWERS)));
+            return;
+        }
+
+        List<String> parsed = Arrays.asList(placeholders.split(","));
+
+        MessageUtil.sendMessage(player, Configuration.MESSAGES.LOAD_TEST_RUNNING
+                .replace("<viewers>", String.valueOf(viewers))
+                .replace("<placeholders>", String.valueOf(parsed.size()))
+                .replace("<seconds>", String.valueOf(seconds)));
+
+        LoadSimulation.start(plugin, plugin.getExpansion(), viewers, parsed, seconds, result -> {
+            String message = Configuration.MESSAGES.LOAD_TEST_RESULT
+                    .replace("<resolutions>", String.valueOf(result.resolutions()))
+                    .replace("<rounds>", String.valueOf(result.rounds()))
+                    .replace("<ticks>", String.valueOf(result.ticks()))
+                    .replace("<throughput>", formatDecimal(result.throughput()))
+                    .replace("<p50>", formatNanos(result.p50()))
+                    .replace("<p99>", formatNanos(result.p99()))
+                    .replace("<p999>", formatNanos(result.p999()))
+                    .replace("<max>", formatNanos(result.max()))
+                    .replace("<round_p50>", formatNanos(result.roundP50()))
+                    .replace("<round_p99>", formatNanos(result.roundP99()))
+                    .replace("<alloc>", result.bytesPerResolution() < 0 ? "-" : formatBytes(result.bytesPerResolution()));
+
+            MessageUtil.sendMessage(player, message);
+        });
+    }
+
+    /**
+     * Compiles a line into a template and renders it for the sender
+     * Usage: /extraplaceholders template <line>
+     *
+     * @param player the command sender
+     * @param line the raw line to compile, spaces included
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "template", description = "Render a compiled placeholder template")
+    public void template(@Sender Player player, @Text String line) {
+        PlaceholderTemplate template = plugin.getExpansion().compileTemplate(line);
+
+        long startTime = System.nanoTime();
+        String result = template.render(player);
+        long duration = System.nanoTime() - startTime;
+
+        String message = Configuration.MESSAGES.TEMPLATE_RESULT
+                .replace("<segments>", String.valueOf(template.getSegmentCount()))
+                .replace("<duration>", String.valueOf(duration));
+
+        player.sendMessage(MessageUtil.colorize(message).replace("<result>", result));
+    }
+
+    /**
+     * Starts recording every placeholder request into a trace file
+     * Usage: /extraplaceholders tracestart
+     *
+     * @param player the command sender
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "tracestart", description = "Start recording placeholder requests")
+    public void traceStart(@Sender Player player) {
+        if (plugin.getExpansion().getTraceRecorder().isRecording()) {
+            MessageUtil.sendMessage(player, Configuration.MESSAGES.TRACE_ALREADY_RUNNING);
+            return;
+        }
+
+        try {
+            long capacity = Configuration.TRACE.MAX_SIZE_MB * 1024L * 1024L;
+            Path file = plugin.getExpansion().getTraceRecorder().start(getTraceDirectory(), capacity);
+
+            MessageUtil.sendMessage(player, Configuration.MESSAGES.TRACE_STARTED
+                    .replace("<file>", file.getFileName().toString()));
+        } catch (Exception e) {
+            sendTraceFailure(player, e);
+        }
+    }
+
+    /**
+     * Stops the running trace capture
+     * Usage: /extraplaceholders tracestop
+     *
+     * @param player the command sender
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "tracestop", description = "Stop recording placeholder requests")
+    public void traceStop(@Sender Player player) {
+        try {
+            TraceWriter writer = plugin.getExpansion().getTraceRecorder().stop();
+
+            if (writer == null) {
+                MessageUtil.sendMessage(player, Configuration.MESSAGES.TRACE_NOT_RUNNING);
+                return;
+            }
+
+            MessageUtil.sendMessage(player, Configuration.MESSAGES.TRACE_STOPPED
+                    .replace("<records>", String.valueOf(writer.getRecordCount()))
+                    .replace("<file>", writer.getFile().getFileName().toString()));
+        } catch (Exception e) {
+            sendTraceFailure(player, e);
+        }
+    }
+
+    /**
+     * Replays a captured trace against the live handlers
+     * Usage: /extraplaceholders replay <file> <speed>
+     *
+     * @param player the command sender
+     * @param file the trace file name inside the trace directory
+     * @param speed playback speed, 1 for recorded speed, 0 for as fast as possible
+     */
+    @net.j4c0b3y.api.command.annotation.command.Command(name = "replay", description = "Replay a recorded placeholder trace")
+    public void replay(@Sender Player player, String file, double speed) {
+        Path directory = getTraceDirectory();
+        Path trace = directory.resolve(file).normalize();
+
+        if (!trace.startsWith(directory)) {
+            sendTraceFailure(player, new IllegalArgumentException("Trace must be inside the trace directory"));
+            return;
+        }
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                List<TraceRecord> records = TraceReader.read(trace);
+                Bukkit.getScheduler().runTask(plugin, () -> startReplay(player, records, speed));
+            } catch (Exception e) {
+                Bukkit.getScheduler().runTask(plugin, () -> sendTraceFailure(player, e));
+            }
+        });
+    }
+
+    /**
+     * Starts a replay and reports its result to the sender
+     *
+     * @param player the command sender
+     * @param records the records to replay
+     * @param speed the playback speed
+     */
+    private void startReplay(Player player, List<TraceRecord> records, double speed) {
+        MessageUtil.sendMessage(player, Configuration.MESSAGES.REPLAY_STARTED
+                .replace("<records>", String.valueOf(records.size()))
+                .replace("<speed>", formatDecimal(speed)));
+
+        TraceReplay.start(plugin, plugin.getExpansion(), records, speed, result -> {
+            String message = Configuration.MESSAGES.REPLAY_RESULT
+                    .replace("<records>", String.valueOf(result.records()))
+                    .replace("<unresolved>", String.valueOf(result.unresolved()))
+                    .replace("<errors>", String.valueOf(result.errors()))
+                    .replace("<wall>", formatDecimal(result.wallNanos() / 1_000_000_000.0))
+                    .replace("<throughput>", formatDecimal(result.throughput()))
+                    .replace("<p50>", formatNanos(result.p50()))
+                    .replace("<p99>", formatNanos(result.p99()))
+                    .replace("<max>", formatNanos(result.max()));
+
+            MessageUtil.sendMessage(player, message);
+        });
+    }
+
+    /**
+     * Gets the configured trace directory
+     *
+     * @return the absolute, normalized trace directory
+     */
+    private Path getTraceDirectory() {
+        return plugin.getDataFolder().toPath().resolve(Configuration.TRACE.DIRECTORY).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Sends a trace failure message
+     *
+     * @param player the command sender
+     * @param error the failure
+     */
+    private void sendTraceFailure(Player player, Exception error) {
+        MessageUtil.sendMessage(player, Configuration.MESSAGES.TRACE_FAILED
+                .replace("<error>", String.valueOf(error.getMessage())));
+    }
+
+    /**
+     * Sends the info header
+     *
+     * @param player the command sender
+     */
+    private void sendHeader(Player player) {
+        MessageUtil.sendMessage(player, Configuration.MESSAGES.PLUGIN_INFO_HEADER);
+    }
+
+    /**
+     * Sends the plugin version
+     *
+     * @param player the command sender
+     */
+    private void sendVersion(Player player) {
+        String message = Configuration.MESSAGES.PLUGIN_INFO_VERSION
+                .replace("<version>", plugin.getDescription().getVersion());
+
+        MessageUtil.sendMessage(player, message);
+    }
+
+    /**
+     * Sends the plugin author(s)
+     *
+     * @param player the command sender
+     */
+    private void sendAuthor(Player player) {
+        String authors = String.join(", ", plugin.getDescription().getAuthors());
+        String message = Configuration.MESSAGES.PLUGIN_INFO_AUTHOR
+                .replace("<author>", authors);
+
+        MessageUtil.sendMessage(player, message);
+    }
+
+    /**
+     * Sends Bolt dependency status
+     *
+     * @param player the command sender
+     */
+    private void sendBoltStatus(Player player) {
+        String status = getDependencyStatus(isDependencyPresent("Bolt"));
+        String message = Configuration.MESSAGES.PLUGIN_INFO_BOLT
+                .replace("<status>", status);
+
+        MessageUtil.sendMessage(player, message);
+    }
+
+    /**
+     * Sends Phoenix dependency status
+     *
+     * @param player the command sender
+     */
+    private void sendPhoenixStatus(Player player) {
+        String status = getDependencyStatus(isDependencyPresent("Phoenix"));
+        String message = Configuration.MESSAGES.PLUGIN_INFO_PHOENIX
+                .replace("<status>", status);
+
+        MessageUtil.sendMessage(player, message);
+    }
+
+    /**
+     * Checks whether an integration is loaded and its plugin present
+     *
+     * @param pluginName the integration plugin name
+     * @return true if the dependency is present
+     */
+    private boolean isDependencyPresent(String pluginName) {
+        return Initializer.getDependency(pluginName)
+                .map(PluginDependency::isPresent)
+                .orElse(false);
+    }
+
+    /**
+     * Gets status message for dependency
+     *
+     * @param isPresent whether dependency is present
+     * @return status message
+     */
+    private String getDependencyStatus(boolean isPresent) {
+        return isPresent
+                ? Configuration.MESSAGES.STATUS_ENABLED
+                : Configuration.MESSAGES.STATUS_DISABLED;
+    }
+
+    /**
+     * Sends a single statistics line
+     *
+     * @param player the command sender
+     * @param stats the statistics to show
+     * @param seconds the seconds since the last reset
+     */
+    private void sendStatsLine(Player player, LatencyStats stats, double seconds) {
+        LatencyHistogram histogram = stats.getHistogram();
+        double rate = seconds > 0 ? stats.getCalls() / seconds : 0;
+
+        String message = Configuration.MESSAGES.STATS_LINE
+                .replace("<name>", stats.getName())
+                .replace("<calls>", String.valueOf(stats.getCalls()))
+                .replace("<rate>", formatDecimal(rate))
+                .replace("<p50>", formatNanos(histogram.getPercentile(50)))
+                .replace("<p99>", formatNanos(histogram.getPercentile(99)))
+                .replace("<max>", formatNanos(histogram.getMax()))
+                .replace("<errors>", String.valueOf(stats.getErrors()))
+                .replace("<shed>", String.valueOf(stats.getShed()))
+                .replace("<alloc>", formatAllocation(stats));
+
+        MessageUtil.sendMessage(player, message);
+    }
+
+    /**
+     * Formats the sampled allocation of a statistics entry
+     *
+     * @param stats the statistics to format
+     * @return formatted allocation, e.g. "312B/op (max 1.2KB)", or "-" if not sampled
+     */
+    private String formatAllocation(LatencyStats stats) {
+        long average = stats.getAverageAllocatedBytes();
+
+        if (average < 0) {
+            return "-";
+        }
+
+        return formatBytes(average) + "/op (max " + formatBytes(stats.getMaxAllocatedBytes()) + ")";
+    }
+
+    /**
+     * Formats a byte count with a readable unit
+     *
+     * @param bytes the byte count
+     * @return formatted size, e.g. "312B", "1.2KB" or "3.4MB"
+     */
+    private String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + "B";
+        }
+
+        if (bytes < 1024 * 1024) {
+            return formatDecimal(bytes / 1024.0) + "KB";
+        }
+
+        return formatDecimal(bytes / (1024.0 * 1024.0)) + "MB";
+    }
+
+    /**
+     * Formats a nanosecond duration with a readable unit
+     *
+     * @param nanos the duration in nanoseconds
+     * @return formatted duration, e.g. "850ns", "12.3µs" or "1.2ms"
+     */
+    private String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+
+        if (nanos < 1_000_000) {
+            return formatDecimal(nanos / 1_000.0) + "µs";
+        }
+
+        return formatDecimal(nanos / 1_000_000.0) + "ms";
+    }
+
+    /**
+     * Formats a decimal with one fraction digit
+     *
+     * @param value the value to format
+     * @return formatted value
+     */
+    private String formatDecimal(double value) {
+        return String.format("%.1f", value);
+    }
+}
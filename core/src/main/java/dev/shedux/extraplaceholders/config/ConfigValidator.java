@@ -0,0 +1,128 @@
+package dev.shedux.extraplaceholders.config;
+
+import lombok.experimental.UtilityClass;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Parses a config file against the static config fields before it is applied
+ * Catches YAML syntax errors and values of the wrong type, so a reload never stops halfway
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+public class ConfigValidator {
+
+    static final String PATH_SEPARATOR = ".";
+
+    /**
+     * Parses and validates config file content once, converting every value to its field type
+     *
+     * @param configClass the config class whose nested section classes describe the file
+     * @param content the raw file content
+     * @return the prepared values
+     * @throws InvalidConfigurationException if the YAML is malformed or a value has the wrong type
+     */
+    public PreparedConfig prepare(Class<?> configClass, String content) throws InvalidConfigurationException {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.loadFromString(content);
+
+        Map<Field, Object> values = new LinkedHashMap<>();
+        Map<String, Object> valuesByPath = new HashMap<>();
+
+        for (Class<?> section : configClass.getDeclaredClasses()) {
+            prepareSection(yaml, section, section.getSimpleName(), values, valuesByPath);
+        }
+
+        return new PreparedConfig(content, values, valuesByPath);
+    }
+
+    private void prepareSection(YamlConfiguration yaml, Class<?> section, String path, Map<Field, Object> values,
+                                Map<String, Object> valuesByPath) throws InvalidConfigurationException {
+        for (Field field : section.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+
+            if (!Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers) || Modifier.isFinal(modifiers)) {
+                continue;
+            }
+
+            String key = path + PATH_SEPARATOR + field.getName();
+
+            if (!yaml.contains(key)) {
+                continue;
+            }
+
+            Object value = yaml.get(key);
+
+            if (!isAssignable(field.getType(), value)) {
+                throw new InvalidConfigurationException(key + " must be of type " + field.getType().getSimpleName());
+            }
+
+            Object converted = convert(field.getType(), value);
+            values.put(field, converted);
+            valuesByPath.put(key, converted);
+        }
+
+        for (Class<?> nested : section.getDeclaredClasses()) {
+            prepareSection(yaml, nested, path + PATH_SEPARATOR + nested.getSimpleName(), values, valuesByPath);
+        }
+    }
+
+    private boolean isAssignable(Class<?> type, Object value) {
+        if (type == boolean.class) {
+            return value instanceof Boolean;
+        }
+
+        if (type == int.class || type == long.class) {
+            return value instanceof Integer || value instanceof Long;
+        }
+
+        if (type == double.class) {
+            return value instanceof Number;
+        }
+
+        if (type == String.class) {
+            return value != null && !(value instanceof List) && !(value instanceof ConfigurationSection);
+        }
+
+        if (type == List.class) {
+            return value instanceof List;
+        }
+
+        return false;
+    }
+
+    private Object convert(Class<?> type, Object value) {
+        if (type == int.class) {
+            return ((Number) value).intValue();
+        }
+
+        if (type == long.class) {
+            return ((Number) value).longValue();
+        }
+
+        if (type == double.class) {
+            return ((Number) value).doubleValue();
+        }
+
+        if (type == String.class) {
+            return value.toString();
+        }
+
+        if (type == List.class) {
+            return ((List<?>) value).stream().map(String::valueOf).collect(Collectors.toList());
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,116 @@
+package dev.shedux.extraplaceholders.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a config file and triggers a reload once edits settle
+ * Runs on its own daemon thread, so the main thread never waits on disk I/O
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class ConfigWatcher {
+
+    private final Path file;
+    private final long debounceMillis;
+    private final Runnable reloadAction;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * Creates a new config watcher
+     *
+     * @param file the config file to watch
+     * @param debounceMillis the quiet period after the last change before reloading
+     * @param reloadAction the action run on the watcher thread after a change
+     */
+    public ConfigWatcher(Path file, long debounceMillis, Runnable reloadAction) {
+        this.file = file;
+        this.debounceMillis = debounceMillis;
+        this.reloadAction = reloadAction;
+    }
+
+    /**
+     * Starts watching the config file's directory
+     *
+     * @throws IOException if the directory cannot be watched
+     */
+    public void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+
+        thread = new Thread(this::run, "ExtraPlaceholders-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching and ends the watcher thread
+     */
+    public void stop() {
+        if (thread == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+            // The thread exits on the closed service either way
+        }
+
+        thread.interrupt();
+        thread = null;
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!drainKey(watchService.take())) {
+                    continue;
+                }
+
+                WatchKey key;
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    drainKey(key);
+                }
+
+                reloadAction.run();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+            // Watcher stopped
+        }
+    }
+
+    /**
+     * Drains a watch key and checks whether it concerns the config file
+     *
+     * @param key the signalled key
+     * @return true if the config file changed
+     */
+    private boolean drainKey(WatchKey key) {
+        boolean changed = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path && path.equals(file.getFileName())) {
+                changed = true;
+            }
+        }
+
+        key.reset();
+        return changed;
+    }
+}
@@ -0,0 +1,371 @@
+package dev.shedux.extraplaceholders.config;
+
+import net.j4c0b3y.api.config.ConfigHandler;
+import net.j4c0b3y.api.config.StaticConfig;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration manager for ExtraPlaceholders plugin
+ * Provides centralized access to all configuration values
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public class Configuration extends StaticConfig {
+
+    /**
+     * Creates a new configuration instance
+     *
+     * @param folder the plugin data folder
+     * @param handler the config handler
+     */
+    public Configuration(File folder, ConfigHandler handler) {
+        super(new File(folder, "config.yml"), handler);
+    }
+
+    /**
+     * Message configuration section
+     */
+    public static class MESSAGES {
+        @Comment("Reload Messages")
+        public static String RELOAD_SUCCESS = "&aConfiguration successfully reloaded in &e<duration>ms&a!";
+        public static String RELOAD_ERROR = "&cAn error occurred while reloading the configuration!";
+
+        @Comment("Plugin Status Messages")
+        public static String PLUGIN_ENABLED = "&aPlugin successfully enabled! &7v<version>";
+        public static String PLUGIN_DISABLED = "&cPlugin disabled.";
+        public static String EXPANSION_REGISTERED = "&aPlaceholderAPI integration completed successfully.";
+        public static String EXPANSION_FAILED = "&cPlaceholderAPI registration failed!";
+
+        @Comment("Dependency Messages")
+        public static String PLACEHOLDER_API_NOT_FOUND = "&cPlaceholderAPI not found! Plugin will be disabled.";
+        public static String BOLT_NOT_AVAILABLE = "&cBolt API is not available";
+        public static String PHOENIX_NOT_AVAILABLE = "&cPhoenix API is not available";
+
+        @Comment("Command Messages")
+        public static String NO_PERMISSION = "&cYou don't have permission to use this command!";
+        public static String PLUGIN_INFO_HEADER = "&8&m          &r &6ExtraPlaceholders &8&m          ";
+        public static String PLUGIN_INFO_VERSION = "&eVersion: &f<version>";
+        public static String PLUGIN_INFO_AUTHOR = "&eAuthor: &f<author>";
+        public static String PLUGIN_INFO_BOLT = "&eBolt: <status>";
+        public static String PLUGIN_INFO_PHOENIX = "&ePhoenix: <status>";
+        public static String STATUS_ENABLED = "&aEnabled";
+        public static String STATUS_DISABLED = "&cDisabled";
+
+        @Comment("Benchmark Messages")
+        public static String BENCHMARK_RUNNING = "&7Running benchmark...";
+        public static String BENCHMARK_INVALID_ITERATIONS = "&cIterations must be a positive number!";
+        public static String BENCHMARK_UNKNOWN_PLACEHOLDER = "&cNo handler accepts that placeholder!";
+        public static String BENCHMARK_NOTHING_TO_SWEEP = "&cNo placeholders have been requested yet!";
+        public static String BENCHMARK_PLAYER_NOT_FOUND = "&cPlayer &e<player> &cis not online!";
+        public static String BENCHMARK_STARTED = "&7Benchmarking &f<count> &7placeholder(s) for &f<player> &7(<iterations> iterations each)...";
+        public static String BENCHMARK_RESULT = "&e<name> &7[<handler>] &8| &f<ns_per_op>ns/op &8| &7p50 &f<p50> &7p90 &f<p90> &7p99 &f<p99> &7max &f<max> &8| &7alloc &f<alloc>/op";
+        public static String BENCHMARK_COMPLETE = "&aBenchmark complete.";
+        public static String LOAD_TEST_INVALID = "&cViewers and seconds must be positive numbers!";
+        public static String LOAD_TEST_TOO_MANY_VIEWERS = "&cAt most &e<max> &cviewers can be simulated in-game, use the offline load test for more!";
+        public static String LOAD_TEST_RUNNING = "&7Simulating &f<viewers> &7viewers x &f<placeholders> &7placeholders for &f<seconds>s&7...";
+        public static String LOAD_TEST_RESULT = "&eLoad: &f<resolutions> &7resolutions in &f<rounds>&7/&f<ticks> &7rounds &8| &f<throughput>/s &8| &7p50 &f<p50> &7p99 &f<p99> &7p99.9 &f<p999> &7max &f<max> &8| &7round p50 &f<round_p50> &7p99 &f<round_p99> &8| &7alloc &f<alloc>/op";
+        public static String BULK_BENCHMARK_RESULT = "&eBulk: &f<players> &7players x &f<placeholders> &7placeholders x &f<iterations> &7runs &8| &eper-call: &f<per_call>ns/op &8| &ebulk: &f<bulk>ns/op &8| &a<speedup>x";
+
+        @Comment("Template Messages")
+        public static String TEMPLATE_RESULT = "&eTemplate &7(<segments> segments, <duration>ns)&e: &r<result>";
+
+        @Comment("Stats Messages")
+        public static String STATS_DISABLED = "&cMetrics are disabled in the configuration!";
+        public static String STATS_HANDLER_HEADER = "&8&m      &r &6Handlers &7(<seconds>s) &8&m      ";
+        public static String STATS_PLACEHOLDER_HEADER = "&8&m      &r &6Top Placeholders &8&m      ";
+        public static String STATS_LINE = "&e<name> &8| &f<calls> &7calls (&f<rate>/s&7) &8| &7p50 &f<p50> &7p99 &f<p99> &7max &f<max> &8| &c<errors> &7errors &8| &6<shed> &7shed &8| &7alloc &f<alloc>";
+        public static String STATS_RESET = "&aPlaceholder statistics have been reset.";
+
+        @Comment("Trace Messages")
+        public static String TRACE_STARTED = "&aRecording placeholder requests to &e<file>&a.";
+        public static String TRACE_ALREADY_RUNNING = "&cA trace capture is already running!";
+        public static String TRACE_STOPPED = "&aTrace stopped: &e<records> &arequests written to &e<file>&a.";
+        public static String TRACE_NOT_RUNNING = "&cNo trace capture is running!";
+        public static String TRACE_FAILED = "&cTrace operation failed: &7<error>";
+        public static String REPLAY_STARTED = "&7Replaying &f<records> &7requests at &f<speed>x&7...";
+        public static String REPLAY_RESULT = "&eReplay: &f<records> &7requests (&c<unresolved> &7unknown, &c<errors> &7errors) in &f<wall>s &8| &f<throughput>/s &8| &7p50 &f<p50> &7p99 &f<p99> &7max &f<max>";
+
+        @Comment("Kit Placeholder Messages")
+        public static String KIT_OUT_OF_MATCH = "&7Out of match";
+        public static String KIT_LOADING = "&eKit loading";
+        public static String KIT_INVALID = "&cInvalid kit";
+        public static String KIT_DEFAULT = "&7-";
+
+        @Comment("Date Placeholder Messages")
+        public static String INVALID_LOCALE = "&cInvalid locale format!";
+
+        @Comment("Expression Placeholder Messages")
+        public static String INVALID_EXPRESSION = "&cInvalid expression!";
+    }
+
+    /**
+     * Date configuration section
+     */
+    public static class DATE {
+        @Comment({
+                "Date Format Settings",
+                "Available locales: tr, en, de, fr, es, it, pt, ru, ja, zh, ar, ko, nl, pl, sv, no, da, fi",
+                "Format pattern: d MMMM yyyy, EEE"})
+        public static String DEFAULT_LOCALE = "tr-TR";
+        public static String DATE_PATTERN = "d MMMM yyyy, EEE";
+    }
+
+    /**
+     * Phoenix status configuration
+     */
+    public static class PHOENIX {
+        @Comment("Phoenix Status Prefixes - Use LEGACY COLOR CODES for scoreboard compatibility")
+        public static String DEFAULT_STATUS = "&f";
+        public static String VANISHED_PREFIX = "&7[⚗] "; // MiniMessage yerine legacy
+        public static String MOD_MODE_PREFIX = "&6[⚙] "; // MiniMessage yerine legacy
+
+        @Comment({
+                "Rank Expiration Messages",
+                "Message shown for permanent ranks"
+        })
+        public static String PERMANENT_RANK = "&6Never";
+        public static String NO_TIME_REMAINING = "&60s";
+
+        /**
+         * Rank expiration time unit configuration
+         */
+        public static class RANK_EXPIRY {
+            @Comment({
+                    "Time Unit Configuration",
+                    "Set to false to cascade that unit into the next available unit",
+                    "Example: If YEAR and MONTH are false, a '1 year 5 days' rank becomes '370 days'",
+                    "Cascading order: Years -> Months -> Days -> Hours -> Minutes -> Seconds"
+            })
+            public static boolean YEAR = false;
+            public static boolean MONTH = false;
+            public static boolean DAY = true;
+            public static boolean HOUR = true;
+            public static boolean MINUTES = true;
+            public static boolean SECONDS = false;
+
+            @Comment("Singular Time Unit Labels - Use simple format for scoreboard")
+            public static String YEAR_SINGULAR = "y";
+            public static String MONTH_SINGULAR = "mo";
+            public static String DAY_SINGULAR = "d";
+            public static String HOUR_SINGULAR = "h";
+            public static String MINUTE_SINGULAR = "m";
+            public static String SECOND_SINGULAR = "s";
+
+            @Comment("Plural Time Unit Labels - Use simple format for scoreboard")
+            public static String YEAR_PLURAL = "y";
+            public static String MONTH_PLURAL = "mo";
+            public static String DAY_PLURAL = "d";
+            public static String HOUR_PLURAL = "h";
+            public static String MINUTE_PLURAL = "m";
+            public static String SECOND_PLURAL = "s";
+        }
+    }
+
+    /**
+     * Countdown configuration
+     */
+    public static class COUNTDOWN {
+        @Comment({
+                "Countdown Targets - %extraplaceholders_countdown_<name>%",
+                "Format: name=target, using the RANK_EXPIRY units and labels",
+                "Targets: 2026-12-31T20:00:00+03:00, 2026-12-31T20:00 (server time zone),",
+                "hourly 30, daily 04:00, weekly sunday 18:00"
+        })
+        public static List<String> TARGETS = new ArrayList<>(List.of("restart=daily 04:00"));
+
+        @Comment("Shown once a one-off countdown has passed")
+        public static String ENDED = "&aNow!";
+    }
+
+    /**
+     * Bolt match history configuration
+     */
+    public static class MATCH_HISTORY {
+        @Comment({
+                "Bolt Match History - %extraplaceholders_bolt_history_<wins|losses|streak|last_<n>>%",
+                "Ended matches are appended to a memory-mapped log in this folder inside the plugin folder",
+                "MAX_SIZE_MB: log size; when full the log is compacted to one summary per player",
+                "COMPACT_INTERVAL_MINUTES: periodic compaction; changes require a restart"
+        })
+        public static boolean ENABLED = true;
+        public static String DIRECTORY = "history";
+        public static int MAX_SIZE_MB = 16;
+        public static int COMPACT_INTERVAL_MINUTES = 60;
+
+        @Comment("Symbols used by bolt_history_last_<n>, newest result first")
+        public static String WIN_SYMBOL = "&aW";
+        public static String LOSS_SYMBOL = "&cL";
+    }
+
+    /**
+     * Persisted player stats configuration
+     */
+    public static class STATS {
+        @Comment({
+                "Player Stats Persistence",
+                "Stats such as best streaks and daily wins are kept in memory and written behind",
+                "to this SQLite file inside the plugin folder, in batches on a background thread",
+                "FLUSH_INTERVAL_SECONDS: at most this much is lost on a crash; changes require a restart"
+        })
+        public static boolean ENABLED = true;
+        public static String FILE = "stats.db";
+        public static int FLUSH_INTERVAL_SECONDS = 30;
+        public static int BATCH_SIZE = 500;
+    }
+
+    /**
+     * Startup warmup configuration
+     */
+    public static class WARMUP {
+        @Comment({
+                "Startup Warmup",
+                "After startup and every reload, date formatters for every supported locale,",
+                "colour codes and each handler are exercised on a background thread",
+                "ITERATIONS: how many times each handler is exercised"
+        })
+        public static boolean ENABLED = true;
+        public static int ITERATIONS = 200;
+    }
+
+    /**
+     * Background precomputation configuration
+     */
+    public static class PRECOMPUTE {
+        @Comment({
+                "Background Precomputation",
+                "When enabled, placeholders requested by online players are recomputed on a schedule",
+                "and requests are served from a per-player value table instead of resolving inline",
+                "SPREAD_TICKS: number of ticks one full refresh pass is spread across (players are bucketed by hash)",
+                "EXPIRY_SECONDS: placeholders not requested for this long stop being precomputed"
+        })
+        public static boolean ENABLED = false;
+        public static int SPREAD_TICKS = 20;
+        public static int EXPIRY_SECONDS = 30;
+    }
+
+    /**
+     * Change-notification configuration
+     */
+    public static class SUBSCRIPTIONS {
+        @Comment({
+                "Placeholder Change Notifications",
+                "How often (in ticks) subscribed placeholders are checked for changes",
+                "Only placeholders with at least one subscriber are resolved"
+        })
+        public static int CHECK_INTERVAL_TICKS = 10;
+    }
+
+    /**
+     * Load shedding configuration
+     */
+    public static class SHEDDING {
+        @Comment({
+                "Load Shedding",
+                "While the average tick duration over the last 5 seconds exceeds MSPT_THRESHOLD,",
+                "expensive placeholders (Bolt, Phoenix) serve their last known value instead of resolving",
+                "and are recomputed on the first tick back under budget",
+                "Cheap placeholders stay live; values older than MAX_STALE_SECONDS are always recomputed",
+                "Tick duration is the time between tick starts, about 50 ms on a healthy 20 TPS server,",
+                "so keep MSPT_THRESHOLD above 50 or normal jitter turns shedding on and off"
+        })
+        public static boolean ENABLED = false;
+        public static int MSPT_THRESHOLD = 55;
+        public static int MAX_STALE_SECONDS = 10;
+    }
+
+    /**
+     * Metrics configuration
+     */
+    public static class METRICS {
+        @Comment({
+                "Placeholder Metrics",
+                "Records call counts, errors and latency histograms per handler and per placeholder",
+                "Shown with /ep stats"
+        })
+        public static boolean ENABLED = true;
+        public static int STATS_TOP_PLACEHOLDERS = 10;
+
+        @Comment({
+                "Latency Sampling",
+                "Times every Nth resolution of each placeholder for the latency histograms (1 = every call, 0 = disabled)",
+                "Calls and errors are always counted; timing costs two clock reads per sampled call"
+        })
+        public static int LATENCY_SAMPLE_RATE = 16;
+
+        @Comment({
+                "Allocation Sampling",
+                "Measures bytes allocated by every Nth resolution of each placeholder (0 = disabled)",
+                "Requires a HotSpot-based JVM; results are shown in /ep stats"
+        })
+        public static int ALLOCATION_SAMPLE_RATE = 0;
+
+        @Comment({
+                "Prometheus Endpoint",
+                "Serves metrics in the Prometheus text format at http://<HTTP_HOST>:<HTTP_PORT>/metrics",
+                "Bound to localhost by default; changes require a restart"
+        })
+        public static boolean HTTP_ENABLED = false;
+        public static String HTTP_HOST = "127.0.0.1";
+        public static int HTTP_PORT = 9464;
+    }
+
+    /**
+     * In-game benchmark configuration
+     */
+    public static class BENCHMARK {
+        @Comment({
+                "In-game Benchmark",
+                "TICK_BUDGET_MS: maximum time /ep benchmark may spend per tick",
+                "WARMUP_ITERATIONS: unmeasured resolutions before each placeholder is timed",
+                "MAX_LOAD_TEST_VIEWERS: most viewers /ep loadtest may simulate, use the offline load test beyond that"
+        })
+        public static int TICK_BUDGET_MS = 5;
+        public static int WARMUP_ITERATIONS = 1000;
+        public static int MAX_LOAD_TEST_VIEWERS = 1000;
+    }
+
+    /**
+     * Request trace configuration
+     */
+    public static class TRACE {
+        @Comment({
+                "Request Trace Capture",
+                "Traces are written to this folder inside the plugin folder with /ep tracestart",
+                "MAX_SIZE_MB: capture stops recording once the trace file reaches this size",
+                "REPLAY_TICK_BUDGET_MS: maximum time /ep replay may spend resolving per tick"
+        })
+        public static String DIRECTORY = "traces";
+        public static int MAX_SIZE_MB = 64;
+        public static int REPLAY_TICK_BUDGET_MS = 20;
+    }
+
+    /**
+     * Config hot reload configuration
+     */
+    public static class HOT_RELOAD {
+        @Comment({
+                "Config Hot Reload",
+                "Watches config.yml and parses and validates it on a background thread after edits settle",
+                "Valid values are copied in on the main thread; invalid YAML or wrongly typed values are rejected",
+                "and the current configuration is kept",
+                "DEBOUNCE_MS: quiet period after the last change before reloading; changes require a restart"
+        })
+        public static boolean ENABLED = false;
+        public static int DEBOUNCE_MS = 500;
+    }
+
+    /**
+     * Logger configuration
+     */
+    public static class LOGGER {
+        @Comment("Logger Format Settings")
+        public static String PREFIX = "&8[&6<plugin>&8]";
+        public static String INFO_COLOR = "&b";
+        public static String SUCCESS_COLOR = "&a";
+        public static String ERROR_COLOR = "&c";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package dev.shedux.extraplaceholders.config;
+
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+/**
+ * Config file values parsed and type-checked off the main thread, ready to be applied
+ * Applying only assigns the static fields, so the file is never read or parsed twice
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class PreparedConfig {
+
+    @Getter
+    private final String content;
+
+    private final Map<Field, Object> values;
+    private final Map<String, Object> valuesByPath;
+
+    /**
+     * Creates a prepared config
+     *
+     * @param content the raw file content the values were parsed from
+     * @param values the converted value of every field present in the file
+     * @param valuesByPath the same values by "SECTION.FIELD" path
+     */
+    PreparedConfig(String content, Map<Field, Object> values, Map<String, Object> valuesByPath) {
+        this.content = content;
+        this.values = Map.copyOf(values);
+        this.valuesByPath = Map.copyOf(valuesByPath);
+    }
+
+    /**
+     * Gets the value a field will have once applied
+     * Lets derived state be built before the fields change
+     *
+     * @param section the top-level section class, e.g. Configuration.DATE.class
+     * @param field the field name, e.g. "DEFAULT_LOCALE"
+     * @param current the current field value, kept if the file does not set it
+     * @param <T> the field type
+     * @return the prepared value, or the current one
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Class<?> section, String field, T current) {
+        Object value = valuesByPath.get(section.getSimpleName() + ConfigValidator.PATH_SEPARATOR + field);
+        return value == null ? current : (T) value;
+    }
+
+    /**
+     * Assigns every prepared value to its static field
+     * Must be called on the main thread
+     */
+    public void apply() {
+        values.forEach((field, value) -> {
+            try {
+                field.set(null, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot assign " + field.getName(), e);
+            }
+        });
+    }
+
+    /**
+     * Gets the number of values present in the file
+     *
+     * @return the value count
+     */
+    public int size() {
+        return values.size();
+    }
+}
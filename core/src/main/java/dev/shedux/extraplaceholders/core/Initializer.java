@@ -0,0 +1,117 @@
+package dev.shedux.extraplaceholders.core;
+
+import dev.shedux.extraplaceholders.api.PluginDependency;
+import dev.shedux.extraplaceholders.integration.Integration;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+
+/**
+ * Discovers optional integrations and manages their dependency trackers
+ * Integrations whose plugin is not installed are never initialized, so their classes stay unloaded
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+public class Initializer {
+
+    @Getter
+    private static List<Integration> integrations = List.of();
+
+    private static Map<String, PluginDependency> dependencies = Map.of();
+
+    /**
+     * Loads every integration whose target plugin is installed
+     * Trackers are registered as listeners so they rebind when the plugin enables or disables later
+     * Should be called once during plugin startup
+     *
+     * @param plugin the owning plugin
+     */
+    public void initialize(Plugin plugin) {
+        PluginManager pluginManager = Bukkit.getPluginManager();
+        List<Integration> loaded = new ArrayList<>();
+        Map<String, PluginDependency> trackers = new LinkedHashMap<>();
+
+        try {
+            for (Integration integration : ServiceLoader.load(Integration.class, Initializer.class.getClassLoader())) {
+                if (pluginManager.getPlugin(integration.getPluginName()) == null) {
+                    continue;
+                }
+
+                enableIntegration(plugin, integration, loaded, trackers);
+            }
+        } catch (ServiceConfigurationError e) {
+            Bukkit.getLogger().log(Level.WARNING, "[ExtraPlaceholders] Failed to discover integrations", e);
+        }
+
+        integrations = List.copyOf(loaded);
+        dependencies = Map.copyOf(trackers);
+    }
+
+    /**
+     * Disables every loaded integration
+     * Should be called once during plugin shutdown
+     */
+    public void shutdown() {
+        for (Integration integration : integrations) {
+            try {
+                integration.disable();
+            } catch (Exception e) {
+                Bukkit.getLogger().log(Level.WARNING, "[ExtraPlaceholders] Failed to disable "
+                        + integration.getPluginName() + " integration", e);
+            }
+        }
+
+        integrations = List.of();
+        dependencies = Map.of();
+    }
+
+    /**
+     * Gets the tracker of a loaded integration
+     *
+     * @param pluginName the plugin name, e.g. "Bolt"
+     * @return the tracker, empty if the integration is not loaded
+     */
+    public Optional<PluginDependency> getDependency(String pluginName) {
+        return Optional.ofNullable(dependencies.get(pluginName));
+    }
+
+    /**
+     * Gets the trackers of every loaded integration
+     *
+     * @return the loaded dependency trackers
+     */
+    public Collection<PluginDependency> getDependencies() {
+        return dependencies.values();
+    }
+
+    private void enableIntegration(Plugin plugin, Integration integration, List<Integration> loaded,
+                                   Map<String, PluginDependency> trackers) {
+        try {
+            PluginDependency tracker = integration.enable(plugin);
+            if (tracker instanceof Listener listener) {
+                Bukkit.getPluginManager().registerEvents(listener, plugin);
+            }
+
+            trackers.put(integration.getPluginName(), tracker);
+            loaded.add(integration);
+        } catch (Exception | LinkageError e) {
+            Bukkit.getLogger().log(Level.WARNING, "[ExtraPlaceholders] Failed to enable "
+                    + integration.getPluginName() + " integration", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package dev.shedux.extraplaceholders.countdown;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * When a countdown ends, either once or on a recurring schedule
+ * Supported specs:
+ * "2026-12-31T20:00:00+03:00", "2026-12-31T20:00" (server time zone),
+ * "hourly 30", "daily 04:00" and "weekly sunday 18:00"
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public sealed interface CountdownTarget {
+
+    /**
+     * Gets the next time the countdown ends
+     *
+     * @param nowMillis the current epoch millis
+     * @return the next target in epoch millis, or -1 if a one-off target has passed
+     */
+    long next(long nowMillis);
+
+    /**
+     * Parses a countdown target spec
+     *
+     * @param spec the target spec
+     * @param zone the zone recurrences and local date-times are evaluated in
+     * @return the parsed target
+     * @throws IllegalArgumentException if the spec is invalid
+     */
+    static CountdownTarget parse(String spec, ZoneId zone) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split("\\s+");
+
+        try {
+            return switch (parts[0]) {
+                case "hourly" -> new Recurring(zone, null, LocalTime.of(0, Integer.parseInt(parts[1])), ChronoUnit.HOURS);
+                case "daily" -> new Recurring(zone, null, LocalTime.parse(parts[1]), ChronoUnit.DAYS);
+                case "weekly" -> new Recurring(zone, DayOfWeek.valueOf(parts[1].toUpperCase(Locale.ROOT)),
+                        LocalTime.parse(parts[2]), ChronoUnit.WEEKS);
+                default -> new Once(parseInstant(spec.trim(), zone));
+            };
+        } catch (ArrayIndexOutOfBoundsException | DateTimeException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid countdown target: " + spec, e);
+        }
+    }
+
+    private static long parseInstant(String spec, ZoneId zone) {
+        try {
+            return OffsetDateTime.parse(spec).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(spec).atZone(zone).toInstant().toEpochMilli();
+        }
+    }
+
+    /**
+     * A single instant
+     *
+     * @param epochMillis the target epoch millis
+     */
+    record Once(long epochMillis) implements CountdownTarget {
+
+        @Override
+        public long next(long nowMillis) {
+            return nowMillis < epochMillis ? epochMillis : -1;
+        }
+    }
+
+    /**
+     * An hourly, daily or weekly recurrence
+     *
+     * @param zone the zone the schedule is evaluated in
+     * @param day the day of week for weekly schedules, otherwise null
+     * @param time the time of day, or the minute of the hour for hourly schedules
+     * @param period the recurrence period
+     */
+    record Recurring(ZoneId zone, DayOfWeek day, LocalTime time, ChronoUnit period) implements CountdownTarget {
+
+        @Override
+        public long next(long nowMillis) {
+            ZonedDateTime now = Instant.ofEpochMilli(nowMillis).atZone(zone);
+            ZonedDateTime candidate = switch (period) {
+                case HOURS -> now.truncatedTo(ChronoUnit.HOURS).withMinute(time.getMinute());
+                case WEEKS -> now.with(TemporalAdjusters.previousOrSame(day)).with(time);
+                default -> now.with(time);
+            };
+
+            if (!candidate.isAfter(now)) {
+                candidate = candidate.plus(1, period);
+            }
+
+            return candidate.toInstant().toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package dev.shedux.extraplaceholders.expansion;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.handler.PlaceholderHandler;
+import dev.shedux.extraplaceholders.jfr.PlaceholderResolveEvent;
+import dev.shedux.extraplaceholders.metrics.AllocationSampler;
+import dev.shedux.extraplaceholders.metrics.LatencyStats;
+import dev.shedux.extraplaceholders.metrics.MetricsRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.bukkit.OfflinePlayer;
+
+import java.util.List;
+
+/**
+ * A placeholder whose params have been parsed and bound to a handler once
+ * Instances are cached by their raw params and shared between requests
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@Getter
+public final class CompiledPlaceholder {
+
+    private final String params;
+    private final PlaceholderHandler handler;
+    private final List<String> args;
+    private final LatencyStats handlerStats;
+
+    // Created on the first recorded call, so placeholders never measured hold no histogram
+    @Getter(AccessLevel.NONE)
+    private volatile LatencyStats stats;
+
+    @Getter(AccessLevel.NONE)
+    private int latencySampleCounter;
+
+    @Getter(AccessLevel.NONE)
+    private int allocationSampleCounter;
+
+    /**
+     * Creates a new compiled placeholder
+     *
+     * @param params the raw placeholder params
+     * @param handler the handler bound to the params
+     * @param args the parsed, immutable arguments
+     */
+    public CompiledPlaceholder(String params, PlaceholderHandler handler, List<String> args) {
+        this.params = params;
+        this.handler = handler;
+        this.args = args;
+        this.handlerStats = MetricsRegistry.forHandler(handler.getHandlerType());
+    }
+
+    /**
+     * Resolves this placeholder for a player
+     * With metrics on, every call is counted but only sampled calls read the clock
+     *
+     * @param player the player to resolve for
+     * @return the resolved value, or null if not handled
+     */
+    public String resolve(OfflinePlayer player) {
+        boolean metrics = Configuration.METRICS.ENABLED;
+        boolean traced = PlaceholderResolveEvent.isRecording();
+
+        if (!metrics && !traced) {
+            return handler.handle(player, args);
+        }
+
+        long startBytes = metrics && shouldSampleAllocation() ? AllocationSampler.currentThreadAllocatedBytes() : -1;
+
+        if (!traced && startBytes < 0 && !shouldSampleLatency()) {
+            return resolveCounted(player);
+        }
+
+        return resolveMeasured(player, metrics, traced, startBytes);
+    }
+
+    /**
+     * Resolves without timing, only counting the call and a thrown exception
+     *
+     * @param player the player to resolve for
+     * @return the resolved value, or null if not handled
+     */
+    private String resolveCounted(OfflinePlayer player) {
+        LatencyStats current = stats();
+        current.recordCall();
+        handlerStats.recordCall();
+
+        try {
+            return handler.handle(player, args);
+        } catch (Throwable t) {
+            current.recordError();
+            handlerStats.recordError();
+            throw t;
+        }
+    }
+
+    /**
+     * Resolves a sampled or traced call, timing it and emitting the JFR event if recording
+     *
+     * @param player the player to resolve for
+     * @param metrics whether metrics are enabled
+     * @param traced whether the JFR event is enabled
+     * @param startBytes the allocated bytes before the call, or -1 if allocation is not sampled
+     * @return the resolved value, or null if not handled
+     */
+    private String resolveMeasured(OfflinePlayer player, boolean metrics, boolean traced, long startBytes) {
+        PlaceholderResolveEvent event = traced ? new PlaceholderResolveEvent() : null;
+
+        if (event != null) {
+            event.begin();
+        }
+
+        long startTime = System.nanoTime();
+        String outcome = PlaceholderResolveEvent.OUTCOME_ERROR;
+
+        try {
+            String value = handler.handle(player, args);
+            outcome = value == null ? PlaceholderResolveEvent.OUTCOME_NULL : PlaceholderResolveEvent.OUTCOME_VALUE;
+            return value;
+        } finally {
+            long duration = System.nanoTime() - startTime;
+
+            if (event != null) {
+                event.end();
+            }
+
+            if (startBytes >= 0) {
+                recordAllocation(AllocationSampler.currentThreadAllocatedBytes() - startBytes);
+            }
+
+            if (metrics) {
+                recordMetrics(duration, outcome);
+            }
+
+            if (event != null) {
+                event.commit(handlerStats.getName(), params, player, outcome);
+            }
+        }
+    }
+
+    /**
+     * Decides whether this call is timed for the latency histograms
+     * The counter is intentionally not atomic; a lost update only shifts the sample
+     *
+     * @return true if the call should be timed
+     */
+    private boolean shouldSampleLatency() {
+        int rate = Configuration.METRICS.LATENCY_SAMPLE_RATE;
+        return rate > 0 && ++latencySampleCounter % rate == 0;
+    }
+
+    /**
+     * Decides whether this call is an allocation sample
+     * The counter is intentionally not atomic; a lost update only shifts the sample
+     *
+     * @return true if allocation should be measured for this call
+     */
+    private boolean shouldSampleAllocation() {
+        int rate = Configuration.METRICS.ALLOCATION_SAMPLE_RATE;
+        return rate > 0 && AllocationSampler.isSupported() && ++allocationSampleCounter % rate == 0;
+    }
+
+    /**
+     * Gets the statistics of this placeholder
+     *
+     * @return the statistics, or null if metrics never recorded a call
+     */
+    public LatencyStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Records a request served with a stale value by load shedding
+     */
+    public void recordShed() {
+        if (Configuration.METRICS.ENABLED) {
+            stats().recordShed();
+        }
+
+        handlerStats.recordShed();
+    }
+
+    private LatencyStats stats() {
+        LatencyStats current = stats;
+
+        if (current == null) {
+            synchronized (this) {
+                current = stats;
+
+                if (current == null) {
+                    current = new LatencyStats(params);
+                    stats = current;
+                }
+            }
+        }
+
+        return current;
+    }
+
+    private void recordAllocation(long bytes) {
+        stats().recordAllocation(bytes);
+        handlerStats.recordAllocation(bytes);
+    }
+
+    private void recordMetrics(long duration, String outcome) {
+        LatencyStats current = stats();
+        current.recordCall();
+        handlerStats.recordCall();
+
+        if (PlaceholderResolveEvent.OUTCOME_ERROR.equals(outcome)) {
+            current.recordError();
+            handlerStats.recordError();
+        }
+
+        current.recordSample(duration);
+        handlerStats.recordSample(duration);
+    }
+
+    /**
+     * Whether this placeholder may be resolved off the main thread
+     *
+     * @return true if the bound handler is async safe
+     */
+    public boolean isAsyncSafe() {
+        return handler.isAsyncSafe();
+    }
+
+    /**
+     * Whether this placeholder may be served stale under load
+     *
+     * @return true if the bound handler is sheddable
+     */
+    public boolean isSheddable() {
+        return handler.isSheddable();
+    }
+}
@@ -0,0 +1,406 @@
+package dev.shedux.extraplaceholders.expansion;
+
+import dev.shedux.extraplaceholders.ExtraPlaceholders;
+import dev.shedux.extraplaceholders.api.PlaceholderMatrix;
+import dev.shedux.extraplaceholders.api.handler.ExtraPlaceholderHandler;
+import dev.shedux.extraplaceholders.api.handler.HandlerRegistration;
+import dev.shedux.extraplaceholders.clock.ServerClock;
+import dev.shedux.extraplaceholders.config.PreparedConfig;
+import dev.shedux.extraplaceholders.core.Initializer;
+import dev.shedux.extraplaceholders.handler.CountdownPlaceholderHandler;
+import dev.shedux.extraplaceholders.handler.ExpressionPlaceholderHandler;
+import dev.shedux.extraplaceholders.handler.PlaceholderHandler;
+import dev.shedux.extraplaceholders.handler.ResolveContext;
+import dev.shedux.extraplaceholders.handler.ServerPlaceholderHandler;
+import dev.shedux.extraplaceholders.integration.Integration;
+import dev.shedux.extraplaceholders.locale.ViewerLocaleService;
+import dev.shedux.extraplaceholders.metrics.CacheCounter;
+import dev.shedux.extraplaceholders.metrics.MetricsRegistry;
+import dev.shedux.extraplaceholders.monitor.TickMonitor;
+import dev.shedux.extraplaceholders.precompute.PrecomputeService;
+import dev.shedux.extraplaceholders.shedding.LoadShedder;
+import dev.shedux.extraplaceholders.subscription.SubscriptionService;
+import dev.shedux.extraplaceholders.template.PlaceholderTemplate;
+import dev.shedux.extraplaceholders.trace.TraceRecorder;
+import lombok.Getter;
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+public final class ExtraPlaceholdersExpansion extends PlaceholderExpansion {
+
+    private static final String IDENTIFIER = "extraplaceholders";
+    private static final String IDENTIFIER_PREFIX = IDENTIFIER + "_";
+    private static final String PLACEHOLDER_DELIMITER = "%";
+    private static final String PARAM_SEPARATOR = "_";
+    private static final int HANDLER_TYPE_INDEX = 0;
+    private static final int MAX_COMPILED_PLACEHOLDERS = 4096;
+    private static final int MAX_COMPILED_TEMPLATES = 1024;
+
+    private final ExtraPlaceholders plugin;
+    private final Map<String, PlaceholderHandler> handlers;
+    private final Map<String, CompiledPlaceholder> compiledPlaceholders = new ConcurrentHashMap<>();
+    private final Map<String, PlaceholderTemplate> compiledTemplates = new ConcurrentHashMap<>();
+    private final CacheCounter placeholderCache = MetricsRegistry.forCache("compiled_placeholders");
+    private final CacheCounter templateCache = MetricsRegistry.forCache("compiled_templates");
+    private final NegativeCache negativeCache = new NegativeCache();
+    private final AtomicLong handlerGeneration = new AtomicLong();
+
+    @Getter
+    private final ServerClock clock;
+
+    @Getter
+    private final TickMonitor tickMonitor;
+
+    @Getter
+    private final ViewerLocaleService viewerLocales;
+
+    @Getter
+    private final LoadShedder loadShedder;
+
+    @Getter
+    private final PrecomputeService precomputeService;
+
+    @Getter
+    private final SubscriptionService subscriptionService;
+
+    @Getter
+    private final TraceRecorder traceRecorder = new TraceRecorder();
+
+    public ExtraPlaceholdersExpansion(ExtraPlaceholders plugin) {
+        this.plugin = plugin;
+        this.clock = new ServerClock(plugin);
+        this.tickMonitor = new TickMonitor(plugin);
+        this.viewerLocales = new ViewerLocaleService(plugin, ServerPlaceholderHandler::resolveClientLocale);
+        this.handlers = initializeHandlers();
+        this.loadShedder = new LoadShedder(plugin, tickMonitor);
+        this.precomputeService = new PrecomputeService(plugin, loadShedder);
+        this.subscriptionService = new SubscriptionService(plugin, this);
+    }
+
+    @Override
+    public @NotNull String getIdentifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public @NotNull String getAuthor() {
+        return plugin.getDescription().getAuthors().toString();
+    }
+
+    @Override
+    public @NotNull String getVersion() {
+        return plugin.getDescription().getVersion();
+    }
+
+    @Override
+    public boolean persist() {
+        return true;
+    }
+
+    @Override
+    public String onRequest(OfflinePlayer player, @NotNull String params) {
+        if (params == null || params.isEmpty()) {
+            return null;
+        }
+
+        if (traceRecorder.isRecording()) {
+            traceRecorder.record(player, params);
+        }
+
+        if (negativeCache.contains(params)) {
+            return null;
+        }
+
+        CompiledPlaceholder placeholder = compile(params);
+
+        if (placeholder == null) {
+            negativeCache.add(params);
+            return null; // Hata mesajı yerine null dön
+        }
+
+        return resolve(player, placeholder);
+    }
+
+    /**
+     * Resolves a compiled placeholder, serving precomputed values when active
+     * and the last known value of expensive placeholders while shedding load
+     *
+     * @param player the player to resolve for
+     * @param placeholder the compiled placeholder
+     * @return the resolved value, or null if not handled or failed
+     */
+    public String resolve(OfflinePlayer player, CompiledPlaceholder placeholder) {
+        try {
+            if (player instanceof Player onlinePlayer && precomputeService.isActive()) {
+                return precomputeService.resolve(onlinePlayer, placeholder);
+            }
+
+            if (loadShedder.handles(player, placeholder)) {
+                return loadShedder.resolve(player, placeholder);
+            }
+
+            return placeholder.resolve(player);
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Resolves many placeholders for many players in one pass
+     * Work is grouped by handler and per-player lookups are shared across the batch
+     *
+     * @param players the players to resolve for, one row each
+     * @param placeholders the placeholders to resolve, one column each
+     * @return the dense result matrix, unknown placeholders resolve to null
+     */
+    public PlaceholderMatrix resolveAll(Collection<? extends OfflinePlayer> players, List<String> placeholders) {
+        List<OfflinePlayer> rows = List.copyOf(players);
+        List<String> columns = List.copyOf(placeholders);
+        String[][] values = new String[rows.size()][columns.size()];
+
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        CompiledPlaceholder[] compiled = new CompiledPlaceholder[columns.size()];
+
+        for (int column = 0; column < columns.size(); column++) {
+            compiled[column] = compile(toParams(columns.get(column)));
+
+            if (compiled[column] != null) {
+                groups.computeIfAbsent(compiled[column].getHandler().getHandlerType(), type -> new ArrayList<>()).add(column);
+            }
+        }
+
+        try (ResolveContext ignored = ResolveContext.open()) {
+            for (List<Integer> group : groups.values()) {
+                for (int row = 0; row < rows.size(); row++) {
+                    OfflinePlayer player = rows.get(row);
+
+                    for (int column : group) {
+                        values[row][column] = resolve(player, compiled[column]);
+                    }
+                }
+            }
+        }
+
+        return new PlaceholderMatrix(rows, columns, values);
+    }
+
+    /**
+     * Converts a full placeholder into expansion params
+     * Accepts "%extraplaceholders_server_date%", "extraplaceholders_server_date" or "server_date"
+     *
+     * @param placeholder the placeholder text
+     * @return the params without identifier and percent signs
+     */
+    public String toParams(String placeholder) {
+        String params = placeholder.trim();
+
+        if (params.length() > 1 && params.startsWith(PLACEHOLDER_DELIMITER) && params.endsWith(PLACEHOLDER_DELIMITER)) {
+            params = params.substring(1, params.length() - 1);
+        }
+
+        if (params.regionMatches(true, 0, IDENTIFIER_PREFIX, 0, IDENTIFIER_PREFIX.length())) {
+            params = params.substring(IDENTIFIER_PREFIX.length());
+        }
+
+        return params;
+    }
+
+    /**
+     * Parses params once and binds them to their handler
+     * Results are cached by the raw params string
+     *
+     * @param params the raw placeholder params, without the identifier
+     * @return the compiled placeholder, or null if no handler matches or the handler rejects the args
+     */
+    public CompiledPlaceholder compile(String params) {
+        CompiledPlaceholder placeholder = compiledPlaceholders.get(params);
+
+        if (placeholder != null) {
+            placeholderCache.hit();
+            return placeholder;
+        }
+
+        placeholderCache.miss();
+
+        List<String> args = parseParameters(params);
+
+        if (args.isEmpty()) {
+            return null;
+        }
+
+        PlaceholderHandler handler = getHandler(getHandlerType(args));
+
+        if (handler != null) {
+            handler = handler.bind(args);
+        }
+
+        if (handler == null || !handler.accepts(args)) {
+            return null;
+        }
+
+        placeholder = new CompiledPlaceholder(params, handler, args);
+
+        if (compiledPlaceholders.size() < MAX_COMPILED_PLACEHOLDERS) {
+            compiledPlaceholders.putIfAbsent(params, placeholder);
+        }
+
+        return placeholder;
+    }
+
+    /**
+     * Parses a whole line once into a reusable template
+     * Results are cached by the raw line
+     *
+     * @param line the raw line text
+     * @return the compiled template
+     */
+    public PlaceholderTemplate compileTemplate(String line) {
+        PlaceholderTemplate template = compiledTemplates.get(line);
+
+        if (template != null) {
+            templateCache.hit();
+            return template;
+        }
+
+        templateCache.miss();
+
+        template = PlaceholderTemplate.compile(this, line);
+
+        if (compiledTemplates.size() < MAX_COMPILED_TEMPLATES) {
+            compiledTemplates.putIfAbsent(line, template);
+        }
+
+        return template;
+    }
+
+    /**
+     * Builds every handler's configuration-derived state from a prepared config
+     * Called off the main thread; the returned task publishes the state on the main thread
+     *
+     * @param config the prepared config values
+     * @return the task publishing every handler's new state
+     */
+    public Runnable prepareReload(PreparedConfig config) {
+        List<Runnable> publishers = handlers.values().stream()
+                .map(handler -> handler.prepareReload(config))
+                .collect(Collectors.toList());
+
+        return () -> {
+            publishers.forEach(Runnable::run);
+            negativeCache.clear();
+        };
+    }
+
+    /**
+     * Registers a third-party handler while the server is running
+     * Unknown-placeholder, template and precomputed value caches are cleared so the new type is picked up immediately
+     *
+     * @param handler the handler to register
+     * @return the registration handle
+     * @throws IllegalArgumentException if the type is invalid or already registered
+     */
+    public HandlerRegistration registerHandler(ExtraPlaceholderHandler handler) {
+        String type = handler.getType() == null ? "" : handler.getType().toLowerCase();
+
+        if (type.isEmpty() || type.contains(PARAM_SEPARATOR)) {
+            throw new IllegalArgumentException("Invalid handler type: " + handler.getType());
+        }
+
+        RegisteredHandler registered = new RegisteredHandler(handler, type, this::unregisterHandler);
+
+        if (handlers.putIfAbsent(type, registered) != null) {
+            throw new IllegalArgumentException("Handler type already registered: " + type);
+        }
+
+        negativeCache.clear();
+        compiledTemplates.clear();
+        precomputeService.clear();
+        handlerGeneration.incrementAndGet();
+        return registered;
+    }
+
+    /**
+     * Gets the handler generation
+     * Bumped whenever a handler is registered or unregistered, so compiled placeholders
+     * held outside the expansion's caches know when to compile their params again
+     *
+     * @return the current generation
+     */
+    public long getHandlerGeneration() {
+        return handlerGeneration.get();
+    }
+
+    /**
+     * Gets every registered handler
+     *
+     * @return live view of the handlers
+     */
+    public Collection<PlaceholderHandler> getHandlers() {
+        return handlers.values();
+    }
+
+    /**
+     * Gets every cached compiled placeholder
+     *
+     * @return live view of the compiled placeholders
+     */
+    public Collection<CompiledPlaceholder> getCompiledPlaceholders() {
+        return compiledPlaceholders.values();
+    }
+
+    private void unregisterHandler(RegisteredHandler registered) {
+        if (!handlers.remove(registered.getHandlerType(), registered)) {
+            return;
+        }
+
+        registered.deactivate();
+        compiledPlaceholders.values().removeIf(placeholder ->
+                placeholder.getHandler().getHandlerType().equals(registered.getHandlerType()));
+        compiledTemplates.clear();
+        precomputeService.clear();
+        handlerGeneration.incrementAndGet();
+    }
+
+    private List<String> parseParameters(String params) {
+        return List.of(params.split(PARAM_SEPARATOR));
+    }
+
+    private String getHandlerType(List<String> args) {
+        return args.get(HANDLER_TYPE_INDEX).toLowerCase();
+    }
+
+    private PlaceholderHandler getHandler(String handlerType) {
+        return handlers.get(handlerType);
+    }
+
+    private Map<String, PlaceholderHandler> initializeHandlers() {
+        Map<String, PlaceholderHandler> registered = new LinkedHashMap<>();
+
+        registerHandler(registered, new ServerPlaceholderHandler(clock, tickMonitor, viewerLocales));
+        registerHandler(registered, new ExpressionPlaceholderHandler(this));
+        registerHandler(registered, new CountdownPlaceholderHandler(clock));
+
+        for (Integration integration : Initializer.getIntegrations()) {
+            integration.createHandlers(clock).forEach(handler -> registerHandler(registered, handler));
+        }
+
+        return new ConcurrentHashMap<>(registered);
+    }
+
+    private void registerHandler(Map<String, PlaceholderHandler> registered, PlaceholderHandler handler) {
+        registered.putIfAbsent(handler.getHandlerType(), handler);
+    }
+}
@@ -0,0 +1,109 @@
+package dev.shedux.extraplaceholders.expansion;
+
+import dev.shedux.extraplaceholders.metrics.CacheCounter;
+import dev.shedux.extraplaceholders.metrics.MetricsRegistry;
+import org.bukkit.Bukkit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded set of placeholder params that no handler accepts
+ * Consulted before any parsing so typos in configs stop costing a full dispatch per refresh.
+ * Each new entry is named once in a rate-limited console warning
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+final class NegativeCache {
+
+    private static final int MAX_ENTRIES = 1024;
+    private static final long WARNING_INTERVAL_MILLIS = 10_000L;
+    private static final int MAX_NAMES_PER_WARNING = 10;
+
+    private final Set<String> params = ConcurrentHashMap.newKeySet();
+    private final Queue<String> pendingWarnings = new ConcurrentLinkedQueue<>();
+    private final AtomicLong nextWarningAt = new AtomicLong();
+    private final CacheCounter counter = MetricsRegistry.forCache("negative_params");
+
+    /**
+     * Checks whether params are known to be unknown
+     *
+     * @param params the raw placeholder params
+     * @return true if the request can be answered with null right away
+     */
+    boolean contains(String params) {
+        if (this.params.contains(params)) {
+            counter.hit();
+
+            if (!pendingWarnings.isEmpty()) {
+                flushWarnings();
+            }
+
+            return true;
+        }
+
+        counter.miss();
+        return false;
+    }
+
+    /**
+     * Remembers params that failed to compile
+     *
+     * @param params the raw placeholder params
+     */
+    void add(String params) {
+        if (this.params.size() >= MAX_ENTRIES || !this.params.add(params)) {
+            return;
+        }
+
+        pendingWarnings.add(params);
+        flushWarnings();
+    }
+
+    /**
+     * Forgets every entry, e.g. after a reload or a new handler
+     */
+    void clear() {
+        params.clear();
+        pendingWarnings.clear();
+    }
+
+    /**
+     * Logs pending unknown placeholders at most once per interval
+     * Runs on additions and on hits while names are pending, so names added inside
+     * an interval are logged by the first lookup after it ends
+     */
+    private void flushWarnings() {
+        long now = System.currentTimeMillis();
+        long next = nextWarningAt.get();
+
+        if (now < next || !nextWarningAt.compareAndSet(next, now + WARNING_INTERVAL_MILLIS)) {
+            return;
+        }
+
+        List<String> names = new ArrayList<>();
+        int skipped = 0;
+
+        for (String pending = pendingWarnings.poll(); pending != null; pending = pendingWarnings.poll()) {
+            if (names.size() < MAX_NAMES_PER_WARNING) {
+                names.add("%extraplaceholders_" + pending + "%");
+            } else {
+                skipped++;
+            }
+        }
+
+        if (names.isEmpty()) {
+            return;
+        }
+
+        String more = skipped > 0 ? " and " + skipped + " more" : "";
+        Bukkit.getLogger().warning("[ExtraPlaceholders] Unknown placeholders resolve to nothing until the next reload: "
+                + String.join(", ", names) + more);
+    }
+}
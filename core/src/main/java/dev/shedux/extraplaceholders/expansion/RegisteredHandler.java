@@ -0,0 +1,138 @@
+package dev.shedux.extraplaceholders.expansion;
+
+import dev.shedux.extraplaceholders.api.handler.ArgumentSchema;
+import dev.shedux.extraplaceholders.api.handler.BoundArguments;
+import dev.shedux.extraplaceholders.api.handler.ExtraPlaceholderHandler;
+import dev.shedux.extraplaceholders.api.handler.HandlerRegistration;
+import dev.shedux.extraplaceholders.handler.PlaceholderHandler;
+import org.bukkit.OfflinePlayer;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Adapts a third-party handler to the internal handler contract
+ * Params are bound to the declared schemas once at compile time, and each compiled
+ * placeholder gets its own bound view so requests skip parsing entirely
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+final class RegisteredHandler implements PlaceholderHandler, HandlerRegistration {
+
+    private final ExtraPlaceholderHandler handler;
+    private final String type;
+    private final List<ArgumentSchema> schemas;
+    private final Consumer<RegisteredHandler> unregisterAction;
+
+    private volatile boolean registered = true;
+
+    /**
+     * Creates a new registered handler
+     *
+     * @param handler the third-party handler
+     * @param type the lower-case handler type
+     * @param unregisterAction removes this handler from the expansion
+     */
+    RegisteredHandler(ExtraPlaceholderHandler handler, String type, Consumer<RegisteredHandler> unregisterAction) {
+        this.handler = handler;
+        this.type = type;
+        this.schemas = List.copyOf(handler.getSchemas());
+        this.unregisterAction = unregisterAction;
+    }
+
+    /**
+     * Binds parsed params to the first matching schema
+     *
+     * @param args the parsed params, including the handler type
+     * @return a handler bound to the arguments, or null if no schema matches
+     */
+    @Override
+    public PlaceholderHandler bind(List<String> args) {
+        BoundArguments arguments = bindArguments(args);
+        return arguments == null ? null : new Bound(arguments);
+    }
+
+    /**
+     * Marks the handler as removed so compiled placeholders still held elsewhere stop resolving
+     */
+    void deactivate() {
+        registered = false;
+    }
+
+    @Override
+    public String handle(OfflinePlayer player, List<String> args) {
+        BoundArguments arguments = bindArguments(args);
+        return arguments == null ? null : resolve(player, arguments);
+    }
+
+    @Override
+    public String getHandlerType() {
+        return type;
+    }
+
+    @Override
+    public boolean isAsyncSafe() {
+        return handler.isAsyncSafe();
+    }
+
+    @Override
+    public void reload() {
+        handler.reload();
+    }
+
+    @Override
+    public void unregister() {
+        unregisterAction.accept(this);
+    }
+
+    @Override
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    private BoundArguments bindArguments(List<String> args) {
+        List<String> tokens = args.subList(1, args.size());
+
+        for (ArgumentSchema schema : schemas) {
+            BoundArguments arguments = schema.bind(tokens);
+
+            if (arguments != null) {
+                return arguments;
+            }
+        }
+
+        return null;
+    }
+
+    private String resolve(OfflinePlayer player, BoundArguments arguments) {
+        return registered ? handler.handle(player, arguments) : null;
+    }
+
+    /**
+     * Handler view with its arguments already bound
+     */
+    private final class Bound implements PlaceholderHandler {
+
+        private final BoundArguments arguments;
+
+        private Bound(BoundArguments arguments) {
+            this.arguments = arguments;
+        }
+
+        @Override
+        public String handle(OfflinePlayer player, List<String> args) {
+            return resolve(player, arguments);
+        }
+
+        @Override
+        public String getHandlerType() {
+            return type;
+        }
+
+        @Override
+        public boolean isAsyncSafe() {
+            return handler.isAsyncSafe();
+        }
+    }
+}
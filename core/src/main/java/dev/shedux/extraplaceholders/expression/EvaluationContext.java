@@ -0,0 +1,95 @@
+package dev.shedux.extraplaceholders.expression;
+
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import org.bukkit.OfflinePlayer;
+
+import java.util.Arrays;
+
+/**
+ * Reusable per-thread state for a single expression evaluation
+ * Memoizes sub-placeholder values so each reference resolves at most once
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+final class EvaluationContext {
+
+    private static final int MAX_DEPTH = 8;
+    private static final ThreadLocal<Stack> STACK = ThreadLocal.withInitial(Stack::new);
+
+    private ExtraPlaceholdersExpansion expansion;
+    private OfflinePlayer player;
+    private String[] values = new String[0];
+    private boolean[] resolved = new boolean[0];
+
+    /**
+     * Acquires a context for the current thread, supporting nested expressions
+     *
+     * @param expansion the expansion used to resolve references
+     * @param player the player to resolve references for
+     * @param references the number of distinct references in the expression
+     * @return the acquired context, or null if nesting is too deep
+     */
+    static EvaluationContext acquire(ExtraPlaceholdersExpansion expansion, OfflinePlayer player, int references) {
+        Stack stack = STACK.get();
+
+        if (stack.depth >= MAX_DEPTH) {
+            return null;
+        }
+
+        EvaluationContext context = stack.contexts[stack.depth];
+
+        if (context == null) {
+            context = new EvaluationContext();
+            stack.contexts[stack.depth] = context;
+        }
+
+        stack.depth++;
+        context.reset(expansion, player, references);
+        return context;
+    }
+
+    /**
+     * Releases the most recently acquired context of the current thread
+     */
+    static void release() {
+        Stack stack = STACK.get();
+        EvaluationContext context = stack.contexts[--stack.depth];
+        context.player = null;
+    }
+
+    /**
+     * Resolves a reference, memoized for the rest of this evaluation
+     *
+     * @param reference the reference to resolve
+     * @return the resolved value, may be null
+     */
+    String resolve(Node.Reference reference) {
+        int index = reference.index();
+
+        if (!resolved[index]) {
+            values[index] = reference.resolve(expansion, player);
+            resolved[index] = true;
+        }
+
+        return values[index];
+    }
+
+    private void reset(ExtraPlaceholdersExpansion expansion, OfflinePlayer player, int references) {
+        this.expansion = expansion;
+        this.player = player;
+
+        if (values.length < references) {
+            values = new String[references];
+            resolved = new boolean[references];
+        } else {
+            Arrays.fill(values, 0, references, null);
+            Arrays.fill(resolved, 0, references, false);
+        }
+    }
+
+    private static final class Stack {
+        private final EvaluationContext[] contexts = new EvaluationContext[MAX_DEPTH];
+        private int depth;
+    }
+}
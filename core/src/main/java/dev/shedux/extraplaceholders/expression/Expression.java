@@ -0,0 +1,47 @@
+package dev.shedux.extraplaceholders.expression;
+
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import lombok.Getter;
+import org.bukkit.OfflinePlayer;
+
+/**
+ * A parsed expression ready to be evaluated for any player
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class Expression {
+
+    @Getter
+    private final String source;
+
+    private final Node root;
+    private final int references;
+
+    Expression(String source, Node root, int references) {
+        this.source = source;
+        this.root = root;
+        this.references = references;
+    }
+
+    /**
+     * Evaluates the expression for a player
+     *
+     * @param expansion the expansion used to resolve sub-placeholders
+     * @param player the player to evaluate for
+     * @return the result as text, or null if nesting is too deep
+     */
+    public String evaluate(ExtraPlaceholdersExpansion expansion, OfflinePlayer player) {
+        EvaluationContext context = EvaluationContext.acquire(expansion, player, references);
+
+        if (context == null) {
+            return null;
+        }
+
+        try {
+            return root.evalString(context);
+        } finally {
+            EvaluationContext.release();
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package dev.shedux.extraplaceholders.expression;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recursive descent parser for expression placeholders
+ *
+ * <pre>
+ * ternary    := or ('?' ternary ':' ternary)?
+ * or         := and ('||' and)*
+ * and        := equality ('&amp;&amp;' equality)*
+ * equality   := relational (('==' | '!=') relational)*
+ * relational := additive (('&lt;' | '&lt;=' | '&gt;' | '&gt;=') additive)*
+ * additive   := term (('+' | '-') term)*
+ * term       := unary (('*' | '/') unary)*
+ * unary      := ('!' | '-') unary | primary
+ * primary    := number | 'text' | true | false | {placeholder} | function(args) | (ternary)
+ * </pre>
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+public class ExpressionParser {
+
+    /**
+     * Parses an expression source
+     *
+     * @param source the expression text
+     * @return the parsed expression
+     * @throws IllegalArgumentException if the source is not a valid expression
+     */
+    public Expression parse(String source) {
+        Parser parser = new Parser(source);
+        Node root = parser.parseTernary();
+        parser.skipWhitespace();
+
+        if (!parser.isAtEnd()) {
+            throw parser.error("Unexpected '" + parser.peek() + "'");
+        }
+
+        return new Expression(source, root, parser.references.size());
+    }
+
+    private static final class Parser {
+
+        private final String source;
+        private final Map<String, Node.Reference> references = new HashMap<>();
+        private int position;
+
+        private Parser(String source) {
+            this.source = source;
+        }
+
+        private Node parseTernary() {
+            Node condition = parseOr();
+
+            if (!match("?")) {
+                return condition;
+            }
+
+            Node whenTrue = parseTernary();
+            expect(":");
+            Node whenFalse = parseTernary();
+            return new Node.Conditional(condition, whenTrue, whenFalse);
+        }
+
+        private Node parseOr() {
+            Node left = parseAnd();
+
+            while (match("||")) {
+                left = new Node.Logical('|', left, parseAnd());
+            }
+
+            return left;
+        }
+
+        private Node parseAnd() {
+            Node left = parseEquality();
+
+            while (match("&&")) {
+                left = new Node.Logical('&', left, parseEquality());
+            }
+
+            return left;
+        }
+
+        private Node parseEquality() {
+            Node left = parseRelational();
+
+            while (true) {
+                if (match("==")) {
+                    left = new Node.Comparison("==", left, parseRelational());
+                } else if (match("!=")) {
+                    left = new Node.Comparison("!=", left, parseRelational());
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseRelational() {
+            Node left = parseAdditive();
+
+            while (true) {
+                if (match("<=")) {
+                    left = new Node.Comparison("<=", left, parseAdditive());
+                } else if (match(">=")) {
+                    left = new Node.Comparison(">=", left, parseAdditive());
+                } else if (match("<")) {
+                    left = new Node.Comparison("<", left, parseAdditive());
+                } else if (match(">")) {
+                    left = new Node.Comparison(">", left, parseAdditive());
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseAdditive() {
+            Node left = parseTerm();
+
+            while (true) {
+                if (match("+")) {
+                    left = new Node.Arithmetic('+', left, parseTerm());
+                } else if (match("-")) {
+                    left = new Node.Arithmetic('-', left, parseTerm());
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseTerm() {
+            Node left = parseUnary();
+
+            while (true) {
+                if (match("*")) {
+                    left = new Node.Arithmetic('*', left, parseUnary());
+                } else if (match("/")) {
+                    left = new Node.Arithmetic('/', left, parseUnary());
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseUnary() {
+            if (match("!")) {
+                return new Node.Logical('!', parseUnary(), null);
+            }
+
+            if (match("-")) {
+                return new Node.Arithmetic('-', parseUnary(), null);
+            }
+
+            return parsePrimary();
+        }
+
+        private Node parsePrimary() {
+            skipWhitespace();
+
+            if (isAtEnd()) {
+                throw error("Unexpected end of expression");
+            }
+
+            char c = peek();
+
+            if (c == '(') {
+                position++;
+                Node inner = parseTernary();
+                expect(")");
+                return inner;
+            }
+
+            if (c == '\'') {
+                return new Node.Text(readText());
+            }
+
+            if (c == '{') {
+                return readReference();
+            }
+
+            if (Character.isDigit(c) || c == '.') {
+                return readNumber();
+            }
+
+            if (Character.isLetter(c)) {
+                return readIdentifier();
+            }
+
+            throw error("Unexpected '" + c + "'");
+        }
+
+        private String readText() {
+            StringBuilder builder = new StringBuilder();
+            position++;
+
+            while (!isAtEnd()) {
+                char c = source.charAt(position++);
+
+                if (c == '\\' && !isAtEnd()) {
+                    builder.append(source.charAt(position++));
+                } else if (c == '\'') {
+                    return builder.toString();
+                } else {
+                    builder.append(c);
+                }
+            }
+
+            throw error("Unterminated text literal");
+        }
+
+        private Node readReference() {
+            int end = source.indexOf('}', position);
+
+            if (end == -1) {
+                throw error("Unterminated placeholder reference");
+            }
+
+            String params = source.substring(position + 1, end).trim();
+            position = end + 1;
+
+            if (params.isEmpty()) {
+                throw error("Empty placeholder reference");
+            }
+
+            return references.computeIfAbsent(params, key -> new Node.Reference(key, references.size()));
+        }
+
+        private Node readNumber() {
+            int start = position;
+
+            while (!isAtEnd() && (Character.isDigit(peek()) || peek() == '.')) {
+                position++;
+            }
+
+            try {
+                return new Node.Numeric(Double.parseDouble(source.substring(start, position)));
+            } catch (NumberFormatException e) {
+                throw error("Invalid number");
+            }
+        }
+
+        private Node readIdentifier() {
+            int start = position;
+
+            while (!isAtEnd() && Character.isLetterOrDigit(peek())) {
+                position++;
+            }
+
+            String name = source.substring(start, position).toLowerCase();
+
+            return switch (name) {
+                case "true" -> new Node.Bool(true);
+                case "false" -> new Node.Bool(false);
+                default -> readFunction(name);
+            };
+        }
+
+        private Node readFunction(String name) {
+            expect("(");
+            List<Node> arguments = new ArrayList<>();
+
+            if (!match(")")) {
+                do {
+                    arguments.add(parseTernary());
+                } while (match(","));
+
+                expect(")");
+            }
+
+            return switch (name) {
+                case "upper", "lower" -> {
+                    requireArguments(name, arguments, 1);
+                    yield new Node.Case(name.equals("upper"), arguments.get(0));
+                }
+                case "format" -> {
+                    requireArguments(name, arguments, 2);
+
+                    if (!(arguments.get(1) instanceof Node.Text pattern)) {
+                        throw error("format() pattern must be a text literal");
+                    }
+
+                    try {
+                        yield new Node.Format(arguments.get(0), pattern.value());
+                    } catch (IllegalArgumentException e) {
+                        throw error("Invalid format pattern '" + pattern.value() + "'");
+                    }
+                }
+                case "concat" -> new Node.Concat(arguments.toArray(new Node[0]));
+                default -> throw error("Unknown function '" + name + "'");
+            };
+        }
+
+        private void requireArguments(String name, List<Node> arguments, int count) {
+            if (arguments.size() != count) {
+                throw error(name + "() expects " + count + " argument(s)");
+            }
+        }
+
+        private boolean match(String token) {
+            skipWhitespace();
+
+            if (source.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!match(token)) {
+                throw error("Expected '" + token + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (!isAtEnd() && Character.isWhitespace(peek())) {
+                position++;
+            }
+        }
+
+        private boolean isAtEnd() {
+            return position >= source.length();
+        }
+
+        private char peek() {
+            return source.charAt(position);
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + position + " in: " + source);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package dev.shedux.extraplaceholders.expression;
+
+import dev.shedux.extraplaceholders.expansion.CompiledPlaceholder;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import org.bukkit.OfflinePlayer;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * A node of a parsed expression tree
+ * Nodes evaluate directly to the type the parent needs, so boolean checks
+ * and string selection never box or build intermediate values
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+interface Node {
+
+    String TRUE = "true";
+    String FALSE = "false";
+
+    /**
+     * Evaluates the node as text
+     *
+     * @param context the evaluation context
+     * @return the text value, may be null for unresolved references
+     */
+    String evalString(EvaluationContext context);
+
+    /**
+     * Evaluates the node as a number
+     *
+     * @param context the evaluation context
+     * @return the numeric value, NaN if not a number
+     */
+    default double evalNumber(EvaluationContext context) {
+        return toNumber(evalString(context));
+    }
+
+    /**
+     * Evaluates the node as a boolean
+     *
+     * @param context the evaluation context
+     * @return the boolean value
+     */
+    default boolean evalBoolean(EvaluationContext context) {
+        return TRUE.equalsIgnoreCase(evalString(context));
+    }
+
+    /**
+     * Whether this node is statically numeric
+     * Used to pick numeric over textual equality
+     *
+     * @return true if the node always evaluates to a number
+     */
+    default boolean isNumeric() {
+        return false;
+    }
+
+    static double toNumber(String text) {
+        if (text == null || text.isEmpty()) {
+            return Double.NaN;
+        }
+
+        try {
+            return Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    static String toText(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+
+        return Double.toString(value);
+    }
+
+    static String toText(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * Quoted text literal
+     */
+    record Text(String value) implements Node {
+        @Override
+        public String evalString(EvaluationContext context) {
+            return value;
+        }
+    }
+
+    /**
+     * Numeric literal
+     */
+    record Numeric(double value, String text) implements Node {
+        Numeric(double value) {
+            this(value, toText(value));
+        }
+
+        @Override
+        public String evalString(EvaluationContext context) {
+            return text;
+        }
+
+        @Override
+        public double evalNumber(EvaluationContext context) {
+            return value;
+        }
+
+        @Override
+        public boolean isNumeric() {
+            return true;
+        }
+    }
+
+    /**
+     * Boolean literal
+     */
+    record Bool(boolean value) implements Node {
+        @Override
+        public String evalString(EvaluationContext context) {
+            return toText(value);
+        }
+
+        @Override
+        public boolean evalBoolean(EvaluationContext context) {
+            return value;
+        }
+    }
+
+    /**
+     * Reference to another extraplaceholders placeholder, e.g. {bolt_kit_rule_sumo}
+     * The compiled placeholder is kept until a handler is registered or unregistered
+     */
+    final class Reference implements Node {
+
+        private final String params;
+        private final int index;
+        private volatile Binding binding;
+
+        Reference(String params, int index) {
+            this.params = params;
+            this.index = index;
+        }
+
+        int index() {
+            return index;
+        }
+
+        String resolve(ExtraPlaceholdersExpansion expansion, OfflinePlayer player) {
+            Binding current = binding;
+            long generation = expansion.getHandlerGeneration();
+
+            if (current == null || current.generation() != generation) {
+                CompiledPlaceholder compiled = expansion.compile(params);
+
+                if (compiled == null) {
+                    binding = null;
+                    return null;
+                }
+
+                current = new Binding(compiled, generation);
+                binding = current;
+            }
+
+            return expansion.resolve(player, current.placeholder());
+        }
+
+        @Override
+        public String evalString(EvaluationContext context) {
+            return context.resolve(this);
+        }
+
+        /**
+         * A compiled placeholder and the handler generation it was compiled in
+         */
+        private record Binding(CompiledPlaceholder placeholder, long generation) {}
+    }
+
+    /**
+     * Condition ? whenTrue : whenFalse
+     */
+    record Conditional(Node condition, Node whenTrue, Node whenFalse) implements Node {
+        @Override
+        public String evalString(EvaluationContext context) {
+            return condition.evalBoolean(context) ? whenTrue.evalString(context) : whenFalse.evalString(context);
+        }
+
+        @Override
+        public double evalNumber(EvaluationContext context) {
+            return condition.evalBoolean(context) ? whenTrue.evalNumber(context) : whenFalse.evalNumber(context);
+        }
+
+        @Override
+        public boolean evalBoolean(EvaluationContext context) {
+            return condition.evalBoolean(context) ? whenTrue.evalBoolean(context) : whenFalse.evalBoolean(context);
+        }
+
+        @Override
+        public boolean isNumeric() {
+            return whenTrue.isNumeric() && whenFalse.isNumeric();
+        }
+    }
+
+    /**
+     * Logical operators: &&, ||, !
+     */
+    record Logical(char operator, Node left, Node right) implements Node {
+        @Override
+        public String evalString(EvaluationContext context) {
+            return toText(evalBoolean(context));
+        }
+
+        @Override
+        public boolean evalBoolean(EvaluationContext context) {
+            return switch (operator) {
+                case '&' -> left.evalBoolean(context) && right.evalBoolean(context);
+                case '|' -> left.evalBoolean(context) || right.evalBoolean(context);
+                default -> !left.evalBoolean(context);
+            };
+        }
+    }
+
+    /**
+     * Comparison operators: ==, !=, <, <=, >, >=
+     * Equality is numeric when either side is statically numeric, textual otherwise
+     */
+    record Comparison(String operator, Node left, Node right) implements Node {
+        @Override
+        public String evalString(EvaluationContext context) {
+            return toText(evalBoolean(context));
+        }
+
+        @Override
+        public boolean evalBoolean(EvaluationContext context) {
+            boolean numeric = left.isNumeric() || right.isNumeric();
+
+            return switch (operator) {
+                case "==" -> numeric
+                        ? left.evalNumber(context) == right.evalNumber(context)
+                        : textEquals(left.evalString(context), right.evalString(context));
+                case "!=" -> numeric
+                        ? left.evalNumber(context) != right.evalNumber(context)
+                        : !textEquals(left.evalString(context), right.evalString(context));
+                case "<" -> left.evalNumber(context) < right.evalNumber(context);
+                case "<=" -> left.evalNumber(context) <= right.evalNumber(context);
+                case ">" -> left.evalNumber(context) > right.evalNumber(context);
+                default -> left.evalNumber(context) >= right.evalNumber(context);
+            };
+        }
+
+        private static boolean textEquals(String left, String right) {
+            return left == null ? right == null : left.equals(right);
+        }
+    }
+
+    /**
+     * Arithmetic operators: +, -, *, / and unary minus
+     */
+    record Arithmetic(char operator, Node left, Node right) implements Node {
+        @Override
+        public String evalString(EvaluationContext context) {
+            return toText(evalNumber(context));
+        }
+
+        @Override
+        public double evalNumber(EvaluationContext context) {
+            return switch (operator) {
+                case '+' -> left.evalNumber(context) + right.evalNumber(context);
+                case '-' -> right == null ? -left.evalNumber(context) : left.evalNumber(context) - right.evalNumber(context);
+                case '*' -> left.evalNumber(context) * right.evalNumber(context);
+                default -> left.evalNumber(context) / right.evalNumber(context);
+            };
+        }
+
+        @Override
+        public boolean isNumeric() {
+            return true;
+        }
+    }
+
+    /**
+     * format(number, 'pattern') using a DecimalFormat pattern
+     */
+    final class Format implements Node {
+
+        private final Node value;
+        private final ThreadLocal<DecimalFormat> format;
+
+        Format(Node value, String pattern) {
+            this.value = value;
+            DecimalFormat prototype = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(Locale.US));
+            this.format = ThreadLocal.withInitial(() -> (DecimalFormat) prototype.clone());
+        }
+
+        @Override
+        public String evalString(EvaluationContext context) {
+            double number = value.evalNumber(context);
+            return Double.isNaN(number) ? value.evalString(context) : format.get().format(number);
+        }
+    }
+
+    /**
+     * upper(text) and lower(text)
+     */
+    record Case(boolean upper, Node value) implements Node {
+        @Override
+        public String evalString(EvaluationContext context) {
+            String text = value.evalString(context);
+
+            if (text == null) {
+                return null;
+            }
+
+            return upper ? text.toUpperCase(Locale.ROOT) : text.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * concat(a, b, ...)
+     */
+    record Concat(Node[] parts) implements Node {
+        @Override
+        public String evalString(EvaluationContext context) {
+            StringBuilder builder = new StringBuilder();
+
+            for (Node part : parts) {
+                String text = part.evalString(context);
+
+                if (text != null) {
+                    builder.append(text);
+                }
+            }
+
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package dev.shedux.extraplaceholders.handler;
+
+import dev.shedux.extraplaceholders.clock.ServerClock;
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.config.PreparedConfig;
+import dev.shedux.extraplaceholders.countdown.CountdownTarget;
+import dev.shedux.extraplaceholders.util.DurationFormatter;
+import dev.shedux.extraplaceholders.util.MessageUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Handles countdown placeholders for targets defined in the configuration
+ * Each countdown's text only changes when its smallest displayed unit rolls
+ * over, so it is formatted once per change and shared by all viewers
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class CountdownPlaceholderHandler implements PlaceholderHandler {
+
+    private static final int MIN_ARGS = 2;
+    private static final int NAME_INDEX = 1;
+    private static final String ENTRY_SEPARATOR = "=";
+
+    private final ServerClock clock;
+
+    private volatile Map<String, Countdown> countdowns;
+
+    public CountdownPlaceholderHandler(ServerClock clock) {
+        this.clock = clock;
+        this.countdowns = parseCountdowns(Configuration.COUNTDOWN.TARGETS);
+    }
+
+    @Override
+    public String handle(OfflinePlayer player, List<String> args) {
+        if (!hasMinimumArgs(args, MIN_ARGS)) {
+            return null;
+        }
+
+        String name = args.size() == MIN_ARGS
+                ? args.get(NAME_INDEX)
+                : String.join("_", args.subList(NAME_INDEX, args.size()));
+
+        Countdown countdown = countdowns.get(name.toLowerCase(Locale.ROOT));
+        return countdown == null ? null : countdown.render(clock.currentTimeMillis());
+    }
+
+    @Override
+    public boolean isAsyncSafe() {
+        return true;
+    }
+
+    @Override
+    public void reload() {
+        countdowns = parseCountdowns(Configuration.COUNTDOWN.TARGETS);
+    }
+
+    @Override
+    public Runnable prepareReload(PreparedConfig config) {
+        Map<String, Countdown> parsed = parseCountdowns(
+                config.get(Configuration.COUNTDOWN.class, "TARGETS", Configuration.COUNTDOWN.TARGETS));
+        return () -> countdowns = parsed;
+    }
+
+    @Override
+    public void warmup() {
+        long now = clock.currentTimeMillis();
+        countdowns.values().forEach(countdown -> countdown.render(now));
+    }
+
+    /**
+     * Parses the configured "name=target" entries, skipping invalid ones
+     *
+     * @param targets the configured entries
+     * @return the countdowns by lower-case name
+     */
+    private static Map<String, Countdown> parseCountdowns(List<String> targets) {
+        Map<String, Countdown> parsed = new HashMap<>();
+        ZoneId zone = ZoneId.systemDefault();
+
+        for (String entry : targets) {
+            int separator = entry.indexOf(ENTRY_SEPARATOR);
+
+            if (separator <= 0) {
+                Bukkit.getLogger().warning("[ExtraPlaceholders] Ignoring countdown without a name: " + entry);
+                continue;
+            }
+
+            String name = entry.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+
+            try {
+                parsed.put(name, new Countdown(CountdownTarget.parse(entry.substring(separator + 1), zone)));
+            } catch (IllegalArgumentException e) {
+                Bukkit.getLogger().warning("[ExtraPlaceholders] " + e.getMessage());
+            }
+        }
+
+        return Map.copyOf(parsed);
+    }
+
+    /**
+     * A configured countdown with its next target and last rendered text
+     */
+    private static final class Countdown {
+
+        private final CountdownTarget target;
+
+        private volatile long nextTarget;
+        private volatile Rendered rendered;
+
+        private Countdown(CountdownTarget target) {
+            this.target = target;
+        }
+
+        /**
+         * Renders the remaining time, reusing the previous text within the same unit
+         *
+         * @param now the current epoch millis
+         * @return the formatted remaining time, or the ended text
+         */
+        String render(long now) {
+            long next = nextTarget;
+
+            if (next == 0 || (next > 0 && now >= next)) {
+                next = target.next(now);
+                nextTarget = next;
+            }
+
+            if (next < 0) {
+                return MessageUtil.colorize(Configuration.COUNTDOWN.ENDED);
+            }
+
+            long unit = DurationFormatter.getSmallestUnitMillis();
+            long bucket = (next - now) / unit;
+            Rendered current = rendered;
+
+            if (current != null && current.target() == next && current.bucket() == bucket && current.unit() == unit) {
+                return current.text();
+            }
+
+            String text = MessageUtil.colorize(DurationFormatter.format(next - now));
+            rendered = new Rendered(next, unit, bucket, text);
+            return text;
+        }
+    }
+
+    private record Rendered(long target, long unit, long bucket, String text) {}
+}
@@ -0,0 +1,103 @@
+package dev.shedux.extraplaceholders.handler;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import dev.shedux.extraplaceholders.expression.Expression;
+import dev.shedux.extraplaceholders.expression.ExpressionParser;
+import org.bukkit.OfflinePlayer;
+
+import java.util.List;
+
+/**
+ * Handles conditional and expression placeholders over other extraplaceholders values
+ * Example: %extraplaceholders_expr_{bolt_kit_rule_sumo} == 'true' ? '⚔' : ''%
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class ExpressionPlaceholderHandler implements PlaceholderHandler {
+
+    private static final String HANDLER_TYPE = "expr";
+    private static final String PARAM_SEPARATOR = "_";
+    private static final int MIN_ARGS = 2;
+    private static final int EXPRESSION_START_INDEX = 1;
+
+    private final ExtraPlaceholdersExpansion expansion;
+
+    /**
+     * Creates a new expression handler
+     *
+     * @param expansion the expansion used to resolve referenced placeholders
+     */
+    public ExpressionPlaceholderHandler(ExtraPlaceholdersExpansion expansion) {
+        this.expansion = expansion;
+    }
+
+    @Override
+    public String handle(OfflinePlayer player, List<String> args) {
+        if (!hasMinimumArgs(args, MIN_ARGS)) {
+            return null;
+        }
+
+        return evaluate(parseExpression(args), player);
+    }
+
+    /**
+     * Parses the expression once, so compiled placeholders evaluate it without a lookup
+     *
+     * @param args the parsed arguments, the first being the handler type
+     * @return a view evaluating the parsed expression
+     */
+    @Override
+    public PlaceholderHandler bind(List<String> args) {
+        return hasMinimumArgs(args, MIN_ARGS) ? new Bound(parseExpression(args)) : this;
+    }
+
+    @Override
+    public String getHandlerType() {
+        return HANDLER_TYPE;
+    }
+
+    /**
+     * Parses the expression carried by the arguments
+     * Arguments are split on underscores, so the source is joined back first
+     *
+     * @param args the placeholder arguments
+     * @return the parsed expression, or null if invalid
+     */
+    private Expression parseExpression(List<String> args) {
+        String source = String.join(PARAM_SEPARATOR, args.subList(EXPRESSION_START_INDEX, args.size()));
+
+        try {
+            return ExpressionParser.parse(source);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String evaluate(Expression expression, OfflinePlayer player) {
+        return expression == null ? Configuration.MESSAGES.INVALID_EXPRESSION : expression.evaluate(expansion, player);
+    }
+
+    /**
+     * Handler view with its expression already parsed
+     */
+    private final class Bound implements PlaceholderHandler {
+
+        private final Expression expression;
+
+        private Bound(Expression expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public String handle(OfflinePlayer player, List<String> args) {
+            return evaluate(expression, player);
+        }
+
+        @Override
+        public String getHandlerType() {
+            return HANDLER_TYPE;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package dev.shedux.extraplaceholders.handler;
+
+import dev.shedux.extraplaceholders.config.PreparedConfig;
+import org.bukkit.OfflinePlayer;
+import java.util.List;
+
+/**
+ * Base interface for all placeholder handlers
+ * Ensures consistent placeholder processing API across all handlers
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public interface PlaceholderHandler {
+
+    /**
+     * Handles placeholder requests with validation
+     *
+     * @param player the player for whom the placeholder is being resolved
+     * @param args the placeholder arguments (never null or empty)
+     * @return the resolved placeholder value, or null if not handled
+     */
+    String handle(OfflinePlayer player, List<String> args);
+
+    /**
+     * Checks once, when params are compiled, whether the arguments can ever resolve
+     * Rejected params are answered with null from the unknown-placeholder cache
+     * without reaching the handler again until the next reload
+     *
+     * @param args the parsed arguments, the first being the handler type
+     * @return false if the arguments name a sub-command this handler does not have
+     */
+    default boolean accepts(List<String> args) {
+        return true;
+    }
+
+    /**
+     * Binds arguments to the handler serving them, once when their params are compiled
+     * Handlers that can do per-argument work up front return a view holding the result,
+     * so requests for the compiled placeholder skip that work
+     *
+     * @param args the parsed arguments, the first being the handler type
+     * @return the handler resolving these arguments, or null if they can never resolve
+     */
+    default PlaceholderHandler bind(List<String> args) {
+        return this;
+    }
+
+    /**
+     * Gets the handler identifier for routing
+     * Derived from the class name by default
+     *
+     * @return the handler type identifier
+     */
+    default String getHandlerType() {
+        return this.getClass().getSimpleName()
+                .replace("PlaceholderHandler", "")
+                .toLowerCase();
+    }
+
+    /**
+     * Whether this handler may be resolved off the main thread
+     * Handlers touching Bukkit or plugin state must keep the default
+     *
+     * @return true if the handler is safe to call asynchronously
+     */
+    default boolean isAsyncSafe() {
+        return false;
+    }
+
+    /**
+     * Rebuilds state derived from the configuration
+     * Called on the main thread after the reloaded config fields are in place
+     */
+    default void reload() {
+    }
+
+    /**
+     * Builds state derived from a config that is about to be applied
+     * Called off the main thread before any config field changes; the returned task is run
+     * on the main thread after the fields are assigned and should only publish the built state
+     *
+     * @param config the prepared config values
+     * @return the task publishing the new state, by default a full {@link #reload()}
+     */
+    default Runnable prepareReload(PreparedConfig config) {
+        return this::reload;
+    }
+
+    /**
+     * Exercises the handler with synthetic inputs ahead of the first request
+     * Called repeatedly on a background thread after startup and reload, so it must
+     * only take paths that are safe off the main thread
+     */
+    default void warmup() {
+    }
+
+    /**
+     * Whether this handler is expensive enough to be served stale under load
+     * Only such handlers are affected by load shedding
+     *
+     * @return true if the last known value may be served while ticks are over budget
+     */
+    default boolean isSheddable() {
+        return false;
+    }
+
+    /**
+     * Validates if the handler has minimum required arguments
+     *
+     * @param args the arguments to validate
+     * @param minSize the minimum required size
+     * @return true if arguments meet minimum requirements
+     */
+    default boolean hasMinimumArgs(List<String> args, int minSize) {
+        return args != null && args.size() >= minSize;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package dev.shedux.extraplaceholders.handler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Per-batch memo for expensive per-player lookups such as Bolt matches and Phoenix profiles
+ * While a context is open on the current thread, each lookup runs at most once per player
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class ResolveContext implements AutoCloseable {
+
+    private static final ThreadLocal<ResolveContext> CURRENT = new ThreadLocal<>();
+    private static final Object NULL_VALUE = new Object();
+
+    private final Map<Lookup, Object> values = new HashMap<>();
+    private final ResolveContext previous;
+
+    private ResolveContext(ResolveContext previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a context on the current thread
+     * Must be closed on the same thread, preferably with try-with-resources
+     *
+     * @return the opened context
+     */
+    public static ResolveContext open() {
+        ResolveContext context = new ResolveContext(CURRENT.get());
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Runs a lookup, memoized if a context is open on the current thread
+     *
+     * @param type the lookup type, e.g. "bolt_match"
+     * @param playerId the player the lookup belongs to
+     * @param loader the actual lookup
+     * @param <T> the lookup result type
+     * @return the memoized or freshly loaded value, may be null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T lookup(String type, UUID playerId, Supplier<T> loader) {
+        ResolveContext context = CURRENT.get();
+
+        if (context == null) {
+            return loader.get();
+        }
+
+        Lookup key = new Lookup(type, playerId);
+        Object value = context.values.get(key);
+
+        if (value == null) {
+            value = loader.get();
+            context.values.put(key, value == null ? NULL_VALUE : value);
+            return (T) value;
+        }
+
+        return value == NULL_VALUE ? null : (T) value;
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    private record Lookup(String type, UUID playerId) {}
+}
@@ -0,0 +1,270 @@
+package dev.shedux.extraplaceholders.handler;
+
+import dev.shedux.extraplaceholders.clock.ServerClock;
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.config.PreparedConfig;
+import dev.shedux.extraplaceholders.locale.ViewerLocaleService;
+import dev.shedux.extraplaceholders.monitor.ServerStatistics;
+import dev.shedux.extraplaceholders.monitor.TickMonitor;
+import org.bukkit.OfflinePlayer;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ServerPlaceholderHandler implements PlaceholderHandler {
+
+    private static final String DATE_COMMAND = "date";
+    private static final String TPS_COMMAND = "tps";
+    private static final String MSPT_COMMAND = "mspt";
+    private static final String HEAP_COMMAND = "heap";
+    private static final String ONLINE_COMMAND = "online";
+    private static final Set<String> COMMANDS = Set.of(DATE_COMMAND, TPS_COMMAND, MSPT_COMMAND, HEAP_COMMAND, ONLINE_COMMAND);
+    private static final int WINDOW_ARG_INDEX = 2;
+    private static final int MIN_DATE_ARGS = 2;
+    private static final int LOCALE_ARG_INDEX = 2;
+    private static final String AUTO_LOCALE = "auto";
+
+    private static final Map<String, Locale> SUPPORTED_LOCALES = initializeSupportedLocales();
+    private static final List<List<String>> WARMUP_ARGS = List.of(
+            List.of("server", "date"),
+            List.of("server", "tps"),
+            List.of("server", "mspt", "p95"),
+            List.of("server", "heap", "used"),
+            List.of("server", "online")
+    );
+
+    private final ServerClock clock;
+    private final TickMonitor tickMonitor;
+    private final ViewerLocaleService viewerLocales;
+    private final Map<Locale, FormattedDate> formattedDates = new ConcurrentHashMap<>();
+
+    private volatile Locale defaultLocale = resolveDefaultLocale(Configuration.DATE.DEFAULT_LOCALE);
+
+    public ServerPlaceholderHandler(ServerClock clock, TickMonitor tickMonitor, ViewerLocaleService viewerLocales) {
+        this.clock = clock;
+        this.tickMonitor = tickMonitor;
+        this.viewerLocales = viewerLocales;
+    }
+
+    /**
+     * Maps a client locale such as "en_US" onto the supported locales
+     * Falls back to the language alone, e.g. "de_AT" to "de"
+     *
+     * @param clientLocale the locale reported by the client
+     * @return the supported locale, or null if the language is not supported
+     */
+    public static Locale resolveClientLocale(String clientLocale) {
+        if (clientLocale == null || clientLocale.isEmpty()) {
+            return null;
+        }
+
+        String normalized = clientLocale.toLowerCase().replace('_', '-');
+        Locale locale = SUPPORTED_LOCALES.get(normalized);
+
+        if (locale == null && normalized.indexOf('-') > 0) {
+            locale = SUPPORTED_LOCALES.get(normalized.substring(0, normalized.indexOf('-')));
+        }
+
+        return locale;
+    }
+
+    @Override
+    public void reload() {
+        defaultLocale = resolveDefaultLocale(Configuration.DATE.DEFAULT_LOCALE);
+        formattedDates.clear();
+    }
+
+    @Override
+    public Runnable prepareReload(PreparedConfig config) {
+        Locale locale = resolveDefaultLocale(
+                config.get(Configuration.DATE.class, "DEFAULT_LOCALE", Configuration.DATE.DEFAULT_LOCALE));
+
+        return () -> {
+            defaultLocale = locale;
+            formattedDates.clear();
+        };
+    }
+
+    @Override
+    public String handle(OfflinePlayer player, List<String> args) {
+        if (!hasMinimumArgs(args, MIN_DATE_ARGS)) {
+            return null;
+        }
+
+        String command = args.get(1).toLowerCase();
+
+        return switch (command) {
+            case DATE_COMMAND -> handleDatePlaceholder(player, args);
+            case TPS_COMMAND -> handleTpsPlaceholder(args, tickMonitor.getStatistics());
+            case MSPT_COMMAND -> handleMsptPlaceholder(args, tickMonitor.getStatistics());
+            case HEAP_COMMAND -> handleHeapPlaceholder(args, tickMonitor.getStatistics());
+            case ONLINE_COMMAND -> tickMonitor.getStatistics().online();
+            default -> null;
+        };
+    }
+
+    @Override
+    public boolean accepts(List<String> args) {
+        return hasMinimumArgs(args, MIN_DATE_ARGS) && COMMANDS.contains(args.get(1).toLowerCase());
+    }
+
+    @Override
+    public boolean isAsyncSafe() {
+        return true;
+    }
+
+    @Override
+    public void warmup() {
+        Date now = new Date(clock.currentTimeMillis());
+
+        for (Locale locale : Set.copyOf(SUPPORTED_LOCALES.values())) {
+            new SimpleDateFormat(Configuration.DATE.DATE_PATTERN, locale).format(now);
+            formatCurrentDate(locale);
+        }
+
+        for (List<String> args : WARMUP_ARGS) {
+            handle(null, args);
+        }
+    }
+
+    private String handleDatePlaceholder(OfflinePlayer player, List<String> args) {
+        Locale locale = isAutoLocale(args)
+                ? getViewerLocale(player)
+                : getLocaleFromArgs(args).orElse(defaultLocale);
+
+        return formatCurrentDate(locale);
+    }
+
+    private String handleTpsPlaceholder(List<String> args, ServerStatistics statistics) {
+        return switch (getWindowArg(args, "1m")) {
+            case "1m" -> statistics.tps1m();
+            case "5m" -> statistics.tps5m();
+            case "15m" -> statistics.tps15m();
+            default -> null;
+        };
+    }
+
+    private String handleMsptPlaceholder(List<String> args, ServerStatistics statistics) {
+        return switch (getWindowArg(args, "1m")) {
+            case "1m" -> statistics.mspt1m();
+            case "5m" -> statistics.mspt5m();
+            case "15m" -> statistics.mspt15m();
+            case "p95" -> statistics.msptP95();
+            case "max" -> statistics.msptMax();
+            default -> null;
+        };
+    }
+
+    private String handleHeapPlaceholder(List<String> args, ServerStatistics statistics) {
+        return switch (getWindowArg(args, "used")) {
+            case "used" -> statistics.heapUsed();
+            case "max" -> statistics.heapMax();
+            default -> null;
+        };
+    }
+
+    private String getWindowArg(List<String> args, String defaultValue) {
+        return args.size() > WINDOW_ARG_INDEX ? args.get(WINDOW_ARG_INDEX).toLowerCase() : defaultValue;
+    }
+
+    private Locale getViewerLocale(OfflinePlayer player) {
+        Locale locale = viewerLocales.getLocale(player);
+        return locale != null ? locale : defaultLocale;
+    }
+
+    private boolean isAutoLocale(List<String> args) {
+        return args.size() > LOCALE_ARG_INDEX && AUTO_LOCALE.equalsIgnoreCase(args.get(LOCALE_ARG_INDEX));
+    }
+
+    private Optional<Locale> getLocaleFromArgs(List<String> args) {
+        if (args.size() <= LOCALE_ARG_INDEX) {
+            return Optional.empty();
+        }
+
+        return parseLocale(args.get(LOCALE_ARG_INDEX));
+    }
+
+    private Optional<Locale> parseLocale(String localeInput) {
+        if (localeInput == null || localeInput.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String normalized = localeInput.toLowerCase().trim();
+        return Optional.ofNullable(SUPPORTED_LOCALES.get(normalized));
+    }
+
+    private String formatCurrentDate(Locale locale) {
+        long epochSecond = clock.currentEpochSecond();
+        String pattern = Configuration.DATE.DATE_PATTERN;
+        FormattedDate cached = formattedDates.get(locale);
+
+        if (cached != null && cached.epochSecond() == epochSecond && cached.pattern().equals(pattern)) {
+            return cached.text();
+        }
+
+        try {
+            SimpleDateFormat formatter = new SimpleDateFormat(pattern, locale);
+            String text = formatter.format(new Date(clock.currentTimeMillis()));
+            formattedDates.put(locale, new FormattedDate(epochSecond, pattern, text));
+            return text;
+        } catch (Exception e) {
+            return Configuration.MESSAGES.INVALID_LOCALE;
+        }
+    }
+
+    private static Locale resolveDefaultLocale(String configured) {
+        return SUPPORTED_LOCALES.getOrDefault(configured.toLowerCase(), Locale.US);
+    }
+
+    private static Map<String, Locale> initializeSupportedLocales() {
+        return Map.ofEntries(
+                Map.entry("tr", new Locale("tr", "TR")),
+                Map.entry("tr-tr", new Locale("tr", "TR")),
+                Map.entry("en", Locale.US),
+                Map.entry("en-us", Locale.US),
+                Map.entry("en-gb", Locale.UK),
+                Map.entry("de", Locale.GERMANY),
+                Map.entry("de-de", Locale.GERMANY),
+                Map.entry("fr", Locale.FRANCE),
+                Map.entry("fr-fr", Locale.FRANCE),
+                Map.entry("es", new Locale("es", "ES")),
+                Map.entry("es-es", new Locale("es", "ES")),
+                Map.entry("it", Locale.ITALY),
+                Map.entry("it-it", Locale.ITALY),
+                Map.entry("pt", new Locale("pt", "PT")),
+                Map.entry("pt-pt", new Locale("pt", "PT")),
+                Map.entry("pt-br", new Locale("pt", "BR")),
+                Map.entry("nl", new Locale("nl", "NL")),
+                Map.entry("nl-nl", new Locale("nl", "NL")),
+                Map.entry("pl", new Locale("pl", "PL")),
+                Map.entry("pl-pl", new Locale("pl", "PL")),
+                Map.entry("sv", new Locale("sv", "SE")),
+                Map.entry("sv-se", new Locale("sv", "SE")),
+                Map.entry("no", new Locale("no", "NO")),
+                Map.entry("no-no", new Locale("no", "NO")),
+                Map.entry("da", new Locale("da", "DK")),
+                Map.entry("da-dk", new Locale("da", "DK")),
+                Map.entry("fi", new Locale("fi", "FI")),
+                Map.entry("fi-fi", new Locale("fi", "FI")),
+                Map.entry("ru", new Locale("ru", "RU")),
+                Map.entry("ru-ru", new Locale("ru", "RU")),
+                Map.entry("ja", Locale.JAPAN),
+                Map.entry("ja-jp", Locale.JAPAN),
+                Map.entry("zh", Locale.CHINA),
+                Map.entry("zh-cn", Locale.CHINA),
+                Map.entry("zh-tw", Locale.TAIWAN),
+                Map.entry("ko", Locale.KOREA),
+                Map.entry("ko-kr", Locale.KOREA),
+                Map.entry("ar", new Locale("ar", "SA")),
+                Map.entry("ar-sa", new Locale("ar", "SA"))
+        );
+    }
+
+    private record FormattedDate(long epochSecond, String pattern, String text) {}
+}
\ No newline at end of file
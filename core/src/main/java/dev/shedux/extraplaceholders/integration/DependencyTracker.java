@@ -0,0 +1,115 @@
+package dev.shedux.extraplaceholders.integration;
+
+import dev.shedux.extraplaceholders.api.PluginDependency;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Late-binding tracker for an optional plugin API
+ * Re-probes when the plugin enables and drops the API when it disables, publishing through a volatile field
+ *
+ * @param <T> the API type
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public abstract class DependencyTracker<T> implements PluginDependency, Listener {
+
+    private final String dependencyName;
+    private volatile T api;
+
+    /**
+     * Creates the tracker and probes the API once
+     *
+     * @param dependencyName the Bukkit plugin name
+     */
+    protected DependencyTracker(String dependencyName) {
+        this.dependencyName = dependencyName;
+        refresh();
+    }
+
+    /**
+     * Looks up the API instance
+     * Called whenever the plugin enables, may throw if the API classes are missing
+     *
+     * @return the API, or null if not available yet
+     */
+    protected abstract T probe();
+
+    /**
+     * Gets the currently bound API
+     * Read once per request and keep the reference, it may change between calls
+     *
+     * @return the API, or null if not available
+     */
+    public T getApi() {
+        return api;
+    }
+
+    /**
+     * Re-probes the API and publishes the result
+     */
+    public void refresh() {
+        T probed;
+        try {
+            probed = probe();
+        } catch (Exception | LinkageError ignored) {
+            probed = null;
+        }
+
+        api = probed;
+    }
+
+    /**
+     * Binds an API instance directly, bypassing the probe
+     * Used by the offline harnesses to bind in-memory fakes
+     *
+     * @param api the API to publish
+     */
+    public void bind(T api) {
+        this.api = api;
+    }
+
+    /**
+     * Drops the bound API
+     */
+    public void clear() {
+        api = null;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginEnable(PluginEnableEvent event) {
+        if (isTrackedPlugin(event.getPlugin())) {
+            refresh();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (isTrackedPlugin(event.getPlugin())) {
+            clear();
+        }
+    }
+
+    @Override
+    public boolean isPresent() {
+        return api != null;
+    }
+
+    @Override
+    public String getDependencyName() {
+        return dependencyName;
+    }
+
+    @Override
+    public boolean isApiAvailable() {
+        return api != null;
+    }
+
+    private boolean isTrackedPlugin(Plugin plugin) {
+        return dependencyName.equals(plugin.getName());
+    }
+}
@@ -0,0 +1,49 @@
+package dev.shedux.extraplaceholders.integration;
+
+import dev.shedux.extraplaceholders.api.PluginDependency;
+import dev.shedux.extraplaceholders.clock.ServerClock;
+import dev.shedux.extraplaceholders.handler.PlaceholderHandler;
+import org.bukkit.plugin.Plugin;
+
+import java.util.List;
+
+/**
+ * Optional plugin integration discovered through ServiceLoader
+ * Implementations live in their own module and are only touched when the target plugin is installed
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public interface Integration {
+
+    /**
+     * Gets the name of the plugin this integration needs
+     *
+     * @return the Bukkit plugin name
+     */
+    String getPluginName();
+
+    /**
+     * Creates the dependency tracker for the target plugin
+     * Only called when the target plugin is installed, it may not be enabled yet
+     *
+     * @param plugin the owning plugin
+     * @return the dependency tracker
+     */
+    PluginDependency enable(Plugin plugin);
+
+    /**
+     * Creates the placeholder handlers contributed by this integration
+     * Only called after {@link #enable(Plugin)}
+     *
+     * @param clock the shared server clock
+     * @return the handlers to register
+     */
+    List<PlaceholderHandler> createHandlers(ServerClock clock);
+
+    /**
+     * Stops any background work started by {@link #enable(Plugin)}
+     */
+    default void disable() {
+    }
+}
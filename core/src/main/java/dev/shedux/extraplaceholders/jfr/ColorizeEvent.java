@@ -0,0 +1,42 @@
+package dev.shedux.extraplaceholders.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted around text colorization
+ * Disabled by default; enable "dev.shedux.extraplaceholders.Colorize" in the recording settings
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@Name("dev.shedux.extraplaceholders.Colorize")
+@Label("Colorize")
+@Description("Translation of legacy, hex and gradient color codes")
+@Category({"ExtraPlaceholders", "Formatting"})
+@Enabled(false)
+@StackTrace(false)
+public final class ColorizeEvent extends Event {
+
+    @Label("Input Length")
+    private int length;
+
+    /**
+     * Commits the event if the recording wants it
+     *
+     * @param length the length of the colorized text
+     */
+    public void commit(int length) {
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.length = length;
+        commit();
+    }
+}
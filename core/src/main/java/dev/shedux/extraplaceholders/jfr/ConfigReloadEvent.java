@@ -0,0 +1,50 @@
+package dev.shedux.extraplaceholders.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted around configuration reloads
+ * Disabled by default; enable "dev.shedux.extraplaceholders.ConfigReload" in the recording settings
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@Name("dev.shedux.extraplaceholders.ConfigReload")
+@Label("Config Reload")
+@Description("Reload of config.yml, measured while the prepared values are applied")
+@Category({"ExtraPlaceholders", "Configuration"})
+@Enabled(false)
+@StackTrace(false)
+public final class ConfigReloadEvent extends Event {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+
+    @Label("Values")
+    private int values;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Commits the event if the recording wants it
+     *
+     * @param values the number of applied config values
+     * @param outcome one of the OUTCOME constants
+     */
+    public void commit(int values, String outcome) {
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.values = values;
+        this.outcome = outcome;
+        commit();
+    }
+}
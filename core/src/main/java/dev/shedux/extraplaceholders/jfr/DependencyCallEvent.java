@@ -0,0 +1,124 @@
+package dev.shedux.extraplaceholders.jfr;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.metrics.MetricsRegistry;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * JFR event emitted around Bolt and Phoenix API calls
+ * Disabled by default; enable "dev.shedux.extraplaceholders.DependencyCall" in the recording settings
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@Name("dev.shedux.extraplaceholders.DependencyCall")
+@Label("Dependency API Call")
+@Description("A call into the Bolt or Phoenix API made while resolving a placeholder")
+@Category({"ExtraPlaceholders", "Dependencies"})
+@Enabled(false)
+@StackTrace(false)
+public final class DependencyCallEvent extends Event {
+
+    // isEnabled() only reads the event type's state, so one shared instance answers it for every caller
+    private static final DependencyCallEvent PROBE = new DependencyCallEvent();
+
+    @Label("Dependency")
+    private String dependency;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Player UUID")
+    private String playerId;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Runs an API call on one argument, counting it for metrics and recording it when the event is enabled
+     * Pass the argument instead of capturing it so call sites can use a non-capturing lambda
+     *
+     * @param dependency the dependency name, e.g. "Bolt"
+     * @param operation the API operation, e.g. "getBestGrant"
+     * @param playerId the player the call is made for, may be null
+     * @param target the argument of the call
+     * @param call the API call
+     * @param <A> the argument type
+     * @param <T> the call result type
+     * @return the call result
+     */
+    public static <A, T> T record(String dependency, String operation, UUID playerId, A target, Function<A, T> call) {
+        count(dependency, operation);
+
+        if (!PROBE.isEnabled()) {
+            return call.apply(target);
+        }
+
+        return recordEvent(dependency, operation, playerId, () -> call.apply(target));
+    }
+
+    /**
+     * Runs an API call on two arguments, counting it for metrics and recording it when the event is enabled
+     * Pass the arguments instead of capturing them so call sites can use a non-capturing lambda
+     *
+     * @param dependency the dependency name, e.g. "Bolt"
+     * @param operation the API operation, e.g. "getMatchByPlayer"
+     * @param playerId the player the call is made for, may be null
+     * @param first the first argument of the call
+     * @param second the second argument of the call
+     * @param call the API call
+     * @param <A> the first argument type
+     * @param <B> the second argument type
+     * @param <T> the call result type
+     * @return the call result
+     */
+    public static <A, B, T> T record(String dependency, String operation, UUID playerId, A first, B second,
+                                     BiFunction<A, B, T> call) {
+        count(dependency, operation);
+
+        if (!PROBE.isEnabled()) {
+            return call.apply(first, second);
+        }
+
+        return recordEvent(dependency, operation, playerId, () -> call.apply(first, second));
+    }
+
+    private static void count(String dependency, String operation) {
+        if (Configuration.METRICS.ENABLED) {
+            MetricsRegistry.countDependencyCall(dependency, operation);
+        }
+    }
+
+    private static <T> T recordEvent(String dependency, String operation, UUID playerId, Supplier<T> call) {
+        DependencyCallEvent event = new DependencyCallEvent();
+        event.begin();
+        String outcome = PlaceholderResolveEvent.OUTCOME_ERROR;
+
+        try {
+            T result = call.get();
+            outcome = result == null ? PlaceholderResolveEvent.OUTCOME_NULL : PlaceholderResolveEvent.OUTCOME_VALUE;
+            return result;
+        } finally {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.dependency = dependency;
+                event.operation = operation;
+                event.playerId = playerId == null ? null : playerId.toString();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+}
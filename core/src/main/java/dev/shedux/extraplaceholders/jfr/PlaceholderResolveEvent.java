@@ -0,0 +1,74 @@
+package dev.shedux.extraplaceholders.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.bukkit.OfflinePlayer;
+
+/**
+ * JFR event emitted around every placeholder handler dispatch
+ * Disabled by default; enable "dev.shedux.extraplaceholders.PlaceholderResolve" in the recording settings
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@Name("dev.shedux.extraplaceholders.PlaceholderResolve")
+@Label("Placeholder Resolve")
+@Description("Resolution of a single extraplaceholders placeholder by its handler")
+@Category({"ExtraPlaceholders", "Placeholders"})
+@Enabled(false)
+@StackTrace(false)
+public final class PlaceholderResolveEvent extends Event {
+
+    public static final String OUTCOME_VALUE = "value";
+    public static final String OUTCOME_NULL = "null";
+    public static final String OUTCOME_ERROR = "error";
+
+    // isEnabled() only reads the event type's state, so one shared instance answers it for every caller
+    private static final PlaceholderResolveEvent PROBE = new PlaceholderResolveEvent();
+
+    @Label("Handler")
+    private String handler;
+
+    @Label("Placeholder")
+    private String placeholder;
+
+    @Label("Player UUID")
+    private String playerId;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Checks if a running recording has this event enabled, without allocating an event
+     *
+     * @return true if resolutions should create and commit events
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+
+    /**
+     * Commits the event if the recording wants it
+     *
+     * @param handler the handler type
+     * @param placeholder the placeholder params
+     * @param player the player resolved for, may be null
+     * @param outcome one of the OUTCOME constants
+     */
+    public void commit(String handler, String placeholder, OfflinePlayer player, String outcome) {
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.handler = handler;
+        this.placeholder = placeholder;
+        this.playerId = player == null ? null : String.valueOf(player.getUniqueId());
+        this.outcome = outcome;
+        commit();
+    }
+}
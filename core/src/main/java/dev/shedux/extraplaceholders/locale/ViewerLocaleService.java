@@ -0,0 +1,116 @@
+package dev.shedux.extraplaceholders.locale;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches each online player's client locale, mapped to a supported locale
+ * The client reports its locale shortly after joining and whenever it changes
+ * its language; without a locale change event on 1.8 the cache is refreshed
+ * after join and then periodically
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class ViewerLocaleService implements Listener {
+
+    private static final long JOIN_REFRESH_DELAY_TICKS = 20L;
+    private static final long REFRESH_INTERVAL_TICKS = 20L * 10L;
+
+    private final JavaPlugin plugin;
+    private final Function<String, Locale> resolver;
+    private final Map<UUID, Locale> locales = new ConcurrentHashMap<>();
+
+    private BukkitTask task;
+
+    /**
+     * Creates a new viewer locale service
+     *
+     * @param plugin the owning plugin
+     * @param resolver maps a client locale such as "en_US" to a supported locale, or null
+     */
+    public ViewerLocaleService(JavaPlugin plugin, Function<String, Locale> resolver) {
+        this.plugin = plugin;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Registers the join and quit listeners and starts the refresh task
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::refreshAll, REFRESH_INTERVAL_TICKS, REFRESH_INTERVAL_TICKS);
+        refreshAll();
+    }
+
+    /**
+     * Unregisters the listeners, stops the refresh task and clears the cache
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        HandlerList.unregisterAll(this);
+        locales.clear();
+    }
+
+    /**
+     * Gets a player's cached locale
+     *
+     * @param player the viewer
+     * @return the supported locale matching the client, or null if unknown
+     */
+    public Locale getLocale(OfflinePlayer player) {
+        return player == null ? null : locales.get(player.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        Bukkit.getScheduler().runTaskLater(plugin, () -> refresh(player), JOIN_REFRESH_DELAY_TICKS);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        locales.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void refreshAll() {
+        Bukkit.getOnlinePlayers().forEach(this::refresh);
+    }
+
+    private void refresh(Player player) {
+        if (!player.isOnline()) {
+            return;
+        }
+
+        Locale locale = resolver.apply(player.spigot().getLocale());
+
+        if (locale == null) {
+            locales.remove(player.getUniqueId());
+        } else {
+            locales.put(player.getUniqueId(), locale);
+        }
+    }
+}
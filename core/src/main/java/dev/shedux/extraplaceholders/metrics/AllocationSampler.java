@@ -0,0 +1,50 @@
+package dev.shedux.extraplaceholders.metrics;
+
+import lombok.experimental.UtilityClass;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads per-thread allocation counters through the HotSpot ThreadMXBean
+ * Used to measure bytes allocated by sampled handler invocations
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+public class AllocationSampler {
+
+    private static final com.sun.management.ThreadMXBean THREADS = resolveThreadBean();
+
+    /**
+     * Checks if the JVM supports per-thread allocation counters
+     *
+     * @return true if allocation sampling can be used
+     */
+    public boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Gets the bytes allocated so far by the current thread
+     *
+     * @return the allocated bytes, or -1 if unsupported
+     */
+    public long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        } catch (Exception | LinkageError ignored) {
+            // Not a HotSpot JVM - allocation sampling unavailable
+        }
+
+        return null;
+    }
+}
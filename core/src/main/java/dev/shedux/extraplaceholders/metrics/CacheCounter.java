@@ -0,0 +1,56 @@
+package dev.shedux.extraplaceholders.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit and miss counters for a single cache
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class CacheCounter {
+
+    @Getter
+    private final String name;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cache counter
+     *
+     * @param name the cache name
+     */
+    public CacheCounter(String name) {
+        this.name = name;
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the share of lookups served from the cache
+     *
+     * @return the hit ratio between 0 and 1, 0 if never used
+     */
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+}
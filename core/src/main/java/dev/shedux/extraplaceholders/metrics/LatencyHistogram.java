@@ -0,0 +1,132 @@
+package dev.shedux.extraplaceholders.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-bucket, log-linear latency histogram in the spirit of HdrHistogram
+ * Each power of two is split into 8 linear sub-buckets (~12.5% precision),
+ * so recording is a couple of bit operations and one atomic increment on the current thread's stripe
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 34;
+    private static final long MAX_TRACKABLE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets;
+    private final AtomicLong max = new AtomicLong();
+    private final int stripeMask;
+
+    /**
+     * Creates an unstriped histogram
+     */
+    public LatencyHistogram() {
+        this(1);
+    }
+
+    /**
+     * Creates a histogram striped across threads
+     * Each stripe costs about 2KB, so only histograms shared by many threads should be striped
+     *
+     * @param stripes the number of stripes, rounded up to a power of two
+     */
+    public LatencyHistogram(int stripes) {
+        int stripeCount = Stripes.roundUp(stripes);
+        this.buckets = new AtomicLongArray(BUCKET_COUNT * stripeCount);
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records a single value
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE);
+        buckets.incrementAndGet(Stripes.current(stripeMask) * BUCKET_COUNT + indexOf(value));
+
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Gets the value at a percentile
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the upper bound of the bucket holding the percentile, 0 if empty
+     */
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+
+        for (int i = 0; i < buckets.length(); i++) {
+            long count = buckets.get(i);
+            snapshot[i % BUCKET_COUNT] += count;
+            total += count;
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+
+            if (seen >= target) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Gets the highest recorded value
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Clears all recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+
+        max.set(0);
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,154 @@
+package dev.shedux.extraplaceholders.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Call, error and latency statistics for a handler or a compiled placeholder
+ * Calls and errors are counted exactly; latency comes from sampled calls, and the
+ * total time is estimated from the sampled average
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class LatencyStats {
+
+    private static final int CALLS = 0;
+    private static final int ERRORS = 1;
+    private static final int SHED = 2;
+    private static final int SAMPLES = 3;
+    private static final int SAMPLED_NANOS = 4;
+    private static final int ALLOCATION_SAMPLES = 5;
+    private static final int ALLOCATED_BYTES = 6;
+    private static final int FIELDS = 7;
+
+    @Getter
+    private final String name;
+
+    private final StripedCounters counters;
+    private final AtomicLong maxAllocatedBytes = new AtomicLong();
+
+    @Getter
+    private final LatencyHistogram histogram;
+
+    /**
+     * Creates unstriped statistics, for values recorded mostly from one thread
+     *
+     * @param name the handler type or placeholder params
+     */
+    public LatencyStats(String name) {
+        this(name, 1);
+    }
+
+    /**
+     * Creates statistics striped across threads
+     *
+     * @param name the handler type or placeholder params
+     * @param stripes the number of stripes, rounded up to a power of two
+     */
+    public LatencyStats(String name, int stripes) {
+        this.name = name;
+        this.counters = new StripedCounters(FIELDS, stripes);
+        this.histogram = new LatencyHistogram(stripes);
+    }
+
+    /**
+     * Records a call, timed or not
+     */
+    public void recordCall() {
+        counters.add(CALLS, 1);
+    }
+
+    /**
+     * Records the duration of a sampled call
+     *
+     * @param nanos the call duration in nanoseconds
+     */
+    public void recordSample(long nanos) {
+        counters.add(SAMPLES, 1);
+        counters.add(SAMPLED_NANOS, nanos);
+        histogram.record(nanos);
+    }
+
+    /**
+     * Records a call that threw an exception
+     */
+    public void recordError() {
+        counters.add(ERRORS, 1);
+    }
+
+    /**
+     * Records a request served with a stale value by load shedding
+     */
+    public void recordShed() {
+        counters.add(SHED, 1);
+    }
+
+    /**
+     * Records the bytes allocated by a sampled call
+     *
+     * @param bytes the allocated bytes
+     */
+    public void recordAllocation(long bytes) {
+        counters.add(ALLOCATION_SAMPLES, 1);
+        counters.add(ALLOCATED_BYTES, bytes);
+
+        if (bytes > maxAllocatedBytes.get()) {
+            maxAllocatedBytes.accumulateAndGet(bytes, Math::max);
+        }
+    }
+
+    /**
+     * Gets the average bytes allocated per sampled call
+     *
+     * @return the average, or -1 if nothing was sampled
+     */
+    public long getAverageAllocatedBytes() {
+        long samples = counters.sum(ALLOCATION_SAMPLES);
+        return samples == 0 ? -1 : counters.sum(ALLOCATED_BYTES) / samples;
+    }
+
+    public long getMaxAllocatedBytes() {
+        return maxAllocatedBytes.get();
+    }
+
+    public long getAllocationSamples() {
+        return counters.sum(ALLOCATION_SAMPLES);
+    }
+
+    public long getCalls() {
+        return counters.sum(CALLS);
+    }
+
+    public long getErrors() {
+        return counters.sum(ERRORS);
+    }
+
+    public long getShed() {
+        return counters.sum(SHED);
+    }
+
+    public long getSamples() {
+        return counters.sum(SAMPLES);
+    }
+
+    /**
+     * Gets the total time spent in calls, estimated as the sampled average times the call count
+     *
+     * @return the estimated total in nanoseconds, 0 if nothing was sampled
+     */
+    public long getTotalNanos() {
+        long samples = counters.sum(SAMPLES);
+        return samples == 0 ? 0 : (long) ((double) counters.sum(SAMPLED_NANOS) / samples * counters.sum(CALLS));
+    }
+
+    /**
+     * Clears all recorded values
+     */
+    public void reset() {
+        counters.reset();
+        maxAllocatedBytes.set(0);
+        histogram.reset();
+    }
+}
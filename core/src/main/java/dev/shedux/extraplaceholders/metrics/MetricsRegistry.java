@@ -0,0 +1,112 @@
+package dev.shedux.extraplaceholders.metrics;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Central registry of per-handler latency statistics
+ * Per-placeholder statistics live on each compiled placeholder
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+public class MetricsRegistry {
+
+    private static final Map<String, LatencyStats> HANDLER_STATS = new ConcurrentHashMap<>();
+    private static final Map<String, CacheCounter> CACHES = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, LongAdder>> DEPENDENCY_CALLS = new ConcurrentHashMap<>();
+
+    private static volatile long resetTime = System.nanoTime();
+
+    /**
+     * Gets or creates the statistics of a handler
+     *
+     * @param handlerType the handler type identifier
+     * @return the handler statistics
+     */
+    public LatencyStats forHandler(String handlerType) {
+        return HANDLER_STATS.computeIfAbsent(handlerType, type -> new LatencyStats(type, Stripes.SHARED));
+    }
+
+    /**
+     * Gets all handler statistics
+     *
+     * @return live view of the handler statistics
+     */
+    public Collection<LatencyStats> getHandlerStats() {
+        return HANDLER_STATS.values();
+    }
+
+    /**
+     * Gets or creates the hit/miss counter of a cache
+     * Callers should keep the returned counter instead of looking it up per request
+     *
+     * @param cacheName the cache name
+     * @return the cache counter
+     */
+    public CacheCounter forCache(String cacheName) {
+        return CACHES.computeIfAbsent(cacheName, CacheCounter::new);
+    }
+
+    /**
+     * Gets all cache counters
+     *
+     * @return live view of the cache counters
+     */
+    public Collection<CacheCounter> getCaches() {
+        return CACHES.values();
+    }
+
+    /**
+     * Counts a call into a dependency API
+     *
+     * @param dependency the dependency name, e.g. "Bolt"
+     * @param operation the API operation
+     */
+    public void countDependencyCall(String dependency, String operation) {
+        Map<String, LongAdder> operations = DEPENDENCY_CALLS.get(dependency);
+
+        if (operations == null) {
+            operations = DEPENDENCY_CALLS.computeIfAbsent(dependency, key -> new ConcurrentHashMap<>());
+        }
+
+        LongAdder counter = operations.get(operation);
+
+        if (counter == null) {
+            counter = operations.computeIfAbsent(operation, key -> new LongAdder());
+        }
+
+        counter.increment();
+    }
+
+    /**
+     * Gets dependency call counters grouped by dependency and operation
+     *
+     * @return live view of the dependency call counters
+     */
+    public Map<String, Map<String, LongAdder>> getDependencyCalls() {
+        return DEPENDENCY_CALLS;
+    }
+
+    /**
+     * Gets the seconds elapsed since statistics were last reset
+     *
+     * @return the elapsed seconds
+     */
+    public double getElapsedSeconds() {
+        return (System.nanoTime() - resetTime) / 1_000_000_000.0;
+    }
+
+    /**
+     * Clears all handler statistics and restarts the rate window
+     */
+    public void reset() {
+        HANDLER_STATS.values().forEach(LatencyStats::reset);
+        resetTime = System.nanoTime();
+    }
+}
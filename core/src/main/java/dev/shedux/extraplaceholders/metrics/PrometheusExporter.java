@@ -0,0 +1,233 @@
+package dev.shedux.extraplaceholders.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.shedux.extraplaceholders.ExtraPlaceholders;
+import dev.shedux.extraplaceholders.api.PluginDependency;
+import dev.shedux.extraplaceholders.core.Initializer;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded HTTP endpoint serving metrics in the Prometheus text format
+ * Scrapes are handled on a dedicated daemon thread and only read
+ * pre-aggregated counters, so they never touch the main thread
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class PrometheusExporter {
+
+    private static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String PREFIX = "extraplaceholders_";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Starts the endpoint
+     *
+     * @param host the address to bind to
+     * @param port the port to bind to
+     * @throws IOException if the address cannot be bound
+     */
+    public void start(String host, int port) throws IOException {
+        if (server != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ExtraPlaceholders-Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Stops the endpoint
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /**
+     * Renders every metric in the Prometheus text format
+     *
+     * @return the exposition text
+     */
+    String render() {
+        StringBuilder builder = new StringBuilder(4096);
+        renderHandlers(builder);
+        renderCaches(builder);
+        renderDependencies(builder);
+        renderServer(builder);
+        return builder.toString();
+    }
+
+    private void renderHandlers(StringBuilder builder) {
+        header(builder, "handler_calls_total", "counter", "Placeholder handler dispatches");
+        for (LatencyStats stats : MetricsRegistry.getHandlerStats()) {
+            sample(builder, "handler_calls_total", stats.getCalls(), "handler", stats.getName());
+        }
+
+        header(builder, "handler_errors_total", "counter", "Placeholder handler dispatches that threw");
+        for (LatencyStats stats : MetricsRegistry.getHandlerStats()) {
+            sample(builder, "handler_errors_total", stats.getErrors(), "handler", stats.getName());
+        }
+
+        header(builder, "handler_shed_total", "counter", "Requests served a stale value by load shedding");
+        for (LatencyStats stats : MetricsRegistry.getHandlerStats()) {
+            sample(builder, "handler_shed_total", stats.getShed(), "handler", stats.getName());
+        }
+
+        header(builder, "handler_latency_seconds", "summary", "Sampled placeholder handler dispatch latency");
+        for (LatencyStats stats : MetricsRegistry.getHandlerStats()) {
+            for (double quantile : QUANTILES) {
+                sample(builder, "handler_latency_seconds",
+                        stats.getHistogram().getPercentile(quantile * 100) / NANOS_PER_SECOND,
+                        "handler", stats.getName(), "quantile", String.valueOf(quantile));
+            }
+
+            sample(builder, "handler_latency_seconds_sum", stats.getTotalNanos() / NANOS_PER_SECOND, "handler", stats.getName());
+            sample(builder, "handler_latency_seconds_count", stats.getCalls(), "handler", stats.getName());
+        }
+
+        header(builder, "handler_latency_max_seconds", "gauge", "Highest sampled handler dispatch latency");
+        for (LatencyStats stats : MetricsRegistry.getHandlerStats()) {
+            sample(builder, "handler_latency_max_seconds", stats.getHistogram().getMax() / NANOS_PER_SECOND, "handler", stats.getName());
+        }
+    }
+
+    private void renderCaches(StringBuilder builder) {
+        header(builder, "cache_requests_total", "counter", "Cache lookups by result");
+        for (CacheCounter cache : MetricsRegistry.getCaches()) {
+            sample(builder, "cache_requests_total", cache.getHits(), "cache", cache.getName(), "result", "hit");
+            sample(builder, "cache_requests_total", cache.getMisses(), "cache", cache.getName(), "result", "miss");
+        }
+
+        header(builder, "cache_hit_ratio", "gauge", "Share of cache lookups served from the cache");
+        for (CacheCounter cache : MetricsRegistry.getCaches()) {
+            sample(builder, "cache_hit_ratio", cache.getHitRatio(), "cache", cache.getName());
+        }
+    }
+
+    private void renderDependencies(StringBuilder builder) {
+        header(builder, "dependency_available", "gauge", "Whether the dependency API is available (1) or not (0)");
+        for (PluginDependency dependency : Initializer.getDependencies()) {
+            sample(builder, "dependency_available", dependency.isApiAvailable() ? 1 : 0,
+                    "dependency", dependency.getDependencyName());
+        }
+
+        header(builder, "dependency_calls_total", "counter", "Calls into the Bolt and Phoenix APIs");
+        for (Map.Entry<String, Map<String, LongAdder>> dependency : MetricsRegistry.getDependencyCalls().entrySet()) {
+            for (Map.Entry<String, LongAdder> operation : dependency.getValue().entrySet()) {
+                sample(builder, "dependency_calls_total", operation.getValue().sum(),
+                        "dependency", dependency.getKey(), "operation", operation.getKey());
+            }
+        }
+    }
+
+    private void renderServer(StringBuilder builder) {
+        ExtraPlaceholders plugin = ExtraPlaceholders.getInstance();
+        ExtraPlaceholdersExpansion expansion = plugin != null ? plugin.getExpansion() : null;
+
+        if (expansion == null) {
+            return;
+        }
+
+        header(builder, "tick_duration_seconds", "gauge", "Average tick duration over the last 5 seconds");
+        sample(builder, "tick_duration_seconds", expansion.getTickMonitor().getAverageTickMillis() / 1_000.0);
+
+        header(builder, "load_shedding_active", "gauge", "Whether expensive placeholders are being served stale (1) or not (0)");
+        sample(builder, "load_shedding_active", expansion.getLoadShedder().isShedding() ? 1 : 0);
+    }
+
+    private void header(StringBuilder builder, String name, String type, String help) {
+        builder.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private void sample(StringBuilder builder, String name, double value, String... labels) {
+        builder.append(PREFIX).append(name);
+
+        if (labels.length > 0) {
+            builder.append('{');
+
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+
+                builder.append(labels[i]).append("=\"");
+                escape(builder, labels[i + 1]);
+                builder.append('"');
+            }
+
+            builder.append('}');
+        }
+
+        builder.append(' ');
+
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            builder.append((long) value);
+        } else {
+            builder.append(value);
+        }
+
+        builder.append('\n');
+    }
+
+    private void escape(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '\\' -> builder.append("\\\\");
+                case '"' -> builder.append("\\\"");
+                case '\n' -> builder.append("\\n");
+                default -> builder.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.shedux.extraplaceholders.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed set of counters striped across threads by thread id
+ * All counters of one stripe share a cache line, so recording a call touches one line
+ * instead of probing a LongAdder per counter
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+final class StripedCounters {
+
+    // 16 longs keep neighbouring stripes on separate 64-byte cache lines despite the array header
+    private static final int STRIPE_STRIDE = 16;
+
+    private final AtomicLongArray values;
+    private final int fields;
+    private final int stride;
+    private final int stripeMask;
+
+    /**
+     * Creates striped counters
+     *
+     * @param fields the number of counters, at most 16
+     * @param stripes the number of stripes, rounded up to a power of two
+     */
+    StripedCounters(int fields, int stripes) {
+        int stripeCount = Stripes.roundUp(stripes);
+        this.fields = fields;
+        this.stride = stripeCount == 1 ? fields : STRIPE_STRIDE;
+        this.stripeMask = stripeCount - 1;
+        this.values = new AtomicLongArray(stride * stripeCount);
+    }
+
+    /**
+     * Adds to a counter in the current thread's stripe
+     *
+     * @param field the counter index
+     * @param delta the amount to add
+     */
+    void add(int field, long delta) {
+        values.getAndAdd(Stripes.current(stripeMask) * stride + field, delta);
+    }
+
+    /**
+     * Sums a counter across all stripes
+     *
+     * @param field the counter index
+     * @return the counter value
+     */
+    long sum(int field) {
+        long sum = 0;
+
+        for (int offset = field; offset < values.length(); offset += stride) {
+            sum += values.get(offset);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Clears all counters
+     * Counts recorded concurrently with the reset may survive it
+     */
+    void reset() {
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            for (int field = 0; field < fields; field++) {
+                values.set(stripe * stride + field, 0);
+            }
+        }
+    }
+}
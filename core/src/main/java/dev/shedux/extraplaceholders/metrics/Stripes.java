@@ -0,0 +1,42 @@
+package dev.shedux.extraplaceholders.metrics;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Picks the stripe of the current thread for striped metrics
+ * Thread ids are handed out sequentially, so the main thread and a small pool of
+ * async threads land on distinct stripes
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+class Stripes {
+
+    private static final int MAX_STRIPES = 8;
+
+    /**
+     * Default stripe count for statistics shared by every thread
+     */
+    static final int SHARED = roundUp(Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES));
+
+    /**
+     * Gets the stripe index of the current thread
+     *
+     * @param mask the stripe count minus one
+     * @return the stripe index
+     */
+    int current(int mask) {
+        return mask == 0 ? 0 : (int) Thread.currentThread().getId() & mask;
+    }
+
+    /**
+     * Rounds a stripe count up to a power of two
+     *
+     * @param stripes the requested stripe count
+     * @return the power of two, at least 1
+     */
+    int roundUp(int stripes) {
+        return stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    }
+}
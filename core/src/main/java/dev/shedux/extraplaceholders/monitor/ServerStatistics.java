@@ -0,0 +1,31 @@
+package dev.shedux.extraplaceholders.monitor;
+
+/**
+ * Immutable, preformatted snapshot of server performance
+ * Published once a second so placeholder reads are a single field load
+ *
+ * @param tps1m ticks per second over the last minute
+ * @param tps5m ticks per second over the last 5 minutes
+ * @param tps15m ticks per second over the last 15 minutes
+ * @param mspt1m average tick duration over the last minute
+ * @param mspt5m average tick duration over the last 5 minutes
+ * @param mspt15m average tick duration over the last 15 minutes
+ * @param msptP95 95th percentile tick duration over the last minute
+ * @param msptMax longest tick over the last minute
+ * @param heapUsed used heap in megabytes
+ * @param heapMax maximum heap in megabytes
+ * @param online online player count
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public record ServerStatistics(String tps1m, String tps5m, String tps15m,
+                               String mspt1m, String mspt5m, String mspt15m,
+                               String msptP95, String msptMax,
+                               String heapUsed, String heapMax, String online) {
+
+    /**
+     * Statistics shown before the first second was sampled
+     */
+    public static final ServerStatistics INITIAL = new ServerStatistics(
+            "20.00", "20.00", "20.00", "50.0", "50.0", "50.0", "50.0", "50.0", "0", "0", "0");
+}
@@ -0,0 +1,185 @@
+package dev.shedux.extraplaceholders.monitor;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+
+/**
+ * Measures server tick durations from a per-tick task
+ * The time between two runs of the task is the full tick duration,
+ * which equals MSPT whenever the server falls behind 50 ms per tick.
+ * Durations go into a 15 minute primitive ring buffer with running sums,
+ * and statistics are published once a second
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class TickMonitor {
+
+    private static final int TICKS_PER_SECOND = 20;
+    private static final int SHORT_WINDOW_TICKS = 5 * TICKS_PER_SECOND;
+    private static final int ONE_MINUTE_TICKS = 60 * TICKS_PER_SECOND;
+    private static final int FIVE_MINUTE_TICKS = 5 * ONE_MINUTE_TICKS;
+    private static final int FIFTEEN_MINUTE_TICKS = 15 * ONE_MINUTE_TICKS;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    public static final double NOMINAL_TICK_MILLIS = 50.0;
+    private static final double MAX_TPS = 20.0;
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    private static final double P95 = 0.95;
+
+    private final JavaPlugin plugin;
+    private final long[] durations = new long[FIFTEEN_MINUTE_TICKS];
+    private final long[] percentileScratch = new long[ONE_MINUTE_TICKS];
+
+    private int index;
+    private int count;
+    private long shortSum;
+    private long oneMinuteSum;
+    private long fiveMinuteSum;
+    private long fifteenMinuteSum;
+    private long lastTickNanos;
+
+    private volatile double averageTickMillis = NOMINAL_TICK_MILLIS;
+    private volatile ServerStatistics statistics = ServerStatistics.INITIAL;
+
+    private BukkitTask task;
+
+    /**
+     * Creates a new tick monitor
+     *
+     * @param plugin the owning plugin
+     */
+    public TickMonitor(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts sampling tick durations
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops sampling tick durations
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        lastTickNanos = 0;
+    }
+
+    /**
+     * Gets the average tick duration over the last 5 seconds
+     *
+     * @return the average tick duration in milliseconds
+     */
+    public double getAverageTickMillis() {
+        return averageTickMillis;
+    }
+
+    /**
+     * Gets the statistics published during the last second
+     *
+     * @return the latest statistics snapshot
+     */
+    public ServerStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Records the duration since the previous tick into the ring buffer
+     */
+    private void tick() {
+        long now = System.nanoTime();
+
+        if (lastTickNanos != 0) {
+            record(now - lastTickNanos);
+
+            if (count % TICKS_PER_SECOND == 0) {
+                statistics = computeStatistics();
+            }
+        }
+
+        lastTickNanos = now;
+    }
+
+    private void record(long duration) {
+        shortSum += duration - valueAgo(SHORT_WINDOW_TICKS);
+        oneMinuteSum += duration - valueAgo(ONE_MINUTE_TICKS);
+        fiveMinuteSum += duration - valueAgo(FIVE_MINUTE_TICKS);
+        fifteenMinuteSum += duration - valueAgo(FIFTEEN_MINUTE_TICKS);
+
+        durations[index] = duration;
+        index = (index + 1) % FIFTEEN_MINUTE_TICKS;
+        count++;
+
+        averageTickMillis = average(shortSum, SHORT_WINDOW_TICKS) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Gets the sample leaving a window of the given size, 0 while the window is filling
+     *
+     * @param window the window size in ticks
+     * @return the sample recorded window ticks ago
+     */
+    private long valueAgo(int window) {
+        if (count < window) {
+            return 0;
+        }
+
+        return durations[Math.floorMod(index - window, FIFTEEN_MINUTE_TICKS)];
+    }
+
+    private double average(long sum, int window) {
+        return sum / (double) Math.min(count, window);
+    }
+
+    private ServerStatistics computeStatistics() {
+        int samples = Math.min(count, ONE_MINUTE_TICKS);
+
+        for (int i = 0; i < samples; i++) {
+            percentileScratch[i] = durations[Math.floorMod(index - 1 - i, FIFTEEN_MINUTE_TICKS)];
+        }
+
+        Arrays.sort(percentileScratch, 0, samples);
+        long p95 = percentileScratch[Math.min(samples - 1, (int) Math.ceil(samples * P95) - 1)];
+        long max = percentileScratch[samples - 1];
+
+        Runtime runtime = Runtime.getRuntime();
+        long heapUsed = (runtime.totalMemory() - runtime.freeMemory()) / BYTES_PER_MEGABYTE;
+
+        return new ServerStatistics(
+                formatTps(average(oneMinuteSum, ONE_MINUTE_TICKS)),
+                formatTps(average(fiveMinuteSum, FIVE_MINUTE_TICKS)),
+                formatTps(average(fifteenMinuteSum, FIFTEEN_MINUTE_TICKS)),
+                formatMillis(average(oneMinuteSum, ONE_MINUTE_TICKS)),
+                formatMillis(average(fiveMinuteSum, FIVE_MINUTE_TICKS)),
+                formatMillis(average(fifteenMinuteSum, FIFTEEN_MINUTE_TICKS)),
+                formatMillis(p95),
+                formatMillis(max),
+                String.valueOf(heapUsed),
+                String.valueOf(runtime.maxMemory() / BYTES_PER_MEGABYTE),
+                String.valueOf(Bukkit.getOnlinePlayers().size())
+        );
+    }
+
+    private String formatTps(double averageNanos) {
+        return String.format("%.2f", Math.min(MAX_TPS, NANOS_PER_SECOND / averageNanos));
+    }
+
+    private String formatMillis(double nanos) {
+        return String.format("%.1f", nanos / NANOS_PER_MILLI);
+    }
+}
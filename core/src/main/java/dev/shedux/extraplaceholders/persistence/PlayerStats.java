@@ -0,0 +1,43 @@
+package dev.shedux.extraplaceholders.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable named counters of one player
+ *
+ * @param values stat name to value
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public record PlayerStats(Map<String, Long> values) {
+
+    public static final PlayerStats EMPTY = new PlayerStats(Map.of());
+
+    /**
+     * Gets a stat
+     *
+     * @param stat the stat name
+     * @return the value, 0 if never set
+     */
+    public long get(String stat) {
+        return values.getOrDefault(stat, 0L);
+    }
+
+    /**
+     * Returns a copy with one stat changed
+     *
+     * @param stat the stat name
+     * @param value the new value
+     * @return the updated stats
+     */
+    public PlayerStats with(String stat, long value) {
+        if (values.containsKey(stat) && values.get(stat) == value) {
+            return this;
+        }
+
+        Map<String, Long> copy = new HashMap<>(values);
+        copy.put(stat, value);
+        return new PlayerStats(Map.copyOf(copy));
+    }
+}
@@ -0,0 +1,259 @@
+package dev.shedux.extraplaceholders.persistence;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+
+/**
+ * Write-behind store for persisted per-player stats
+ * Reads are served from memory; mutations are coalesced per player and flushed in batched
+ * SQLite transactions on a background thread, never on the caller's thread
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class StatsStore {
+
+    private static final String DRIVER_CLASS = "org.sqlite.JDBC";
+    private static final String JDBC_PREFIX = "jdbc:sqlite:";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS player_stats ("
+            + "uuid TEXT NOT NULL, stat TEXT NOT NULL, value INTEGER NOT NULL, PRIMARY KEY (uuid, stat))";
+    private static final String SELECT_ALL = "SELECT uuid, stat, value FROM player_stats";
+    private static final String UPSERT = "INSERT OR REPLACE INTO player_stats (uuid, stat, value) VALUES (?, ?, ?)";
+
+    private final Plugin plugin;
+    private final Map<UUID, PlayerStats> stats = new ConcurrentHashMap<>();
+    private final Set<UUID> dirty = new LinkedHashSet<>();
+
+    private ScheduledExecutorService executor;
+    private Connection connection;
+
+    /**
+     * Creates the store
+     *
+     * @param plugin the owning plugin
+     */
+    public StatsStore(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Opens the database, loads every row into memory and starts the flush timer
+     * Loading runs on the store thread; mutations queued meanwhile apply after it
+     */
+    public void start() {
+        if (executor != null || !Configuration.STATS.ENABLED) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ExtraPlaceholders-Stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::open);
+
+        long interval = Math.max(1, Configuration.STATS.FLUSH_INTERVAL_SECONDS);
+        executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Flushes every pending mutation and closes the database
+     */
+    public void shutdown() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.execute(() -> {
+            flush();
+            close();
+        });
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Stats flush did not finish in time, recent changes may be lost");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        executor = null;
+    }
+
+    /**
+     * Gets the in-memory stats of a player
+     *
+     * @param player the player id
+     * @return the stats, empty if none are recorded
+     */
+    public PlayerStats get(UUID player) {
+        return stats.getOrDefault(player, PlayerStats.EMPTY);
+    }
+
+    /**
+     * Queues a mutation of a player's stats
+     * Safe to call from any thread; the change is visible to reads once the store thread applies it
+     *
+     * @param player the player id
+     * @param mutation the change to apply
+     */
+    public void update(UUID player, UnaryOperator<PlayerStats> mutation) {
+        ScheduledExecutorService current = executor;
+        if (current == null || current.isShutdown()) {
+            return;
+        }
+
+        current.execute(() -> {
+            PlayerStats before = get(player);
+            PlayerStats after = mutation.apply(before);
+
+            if (after != before) {
+                stats.put(player, after);
+                dirty.add(player);
+            }
+        });
+    }
+
+    private void open() {
+        try {
+            Class.forName(DRIVER_CLASS);
+
+            File file = new File(plugin.getDataFolder(), Configuration.STATS.FILE);
+            connection = DriverManager.getConnection(JDBC_PREFIX + file.getAbsolutePath());
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+                statement.execute(CREATE_TABLE);
+            }
+
+            load();
+        } catch (ClassNotFoundException | SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to open stats database, stats are kept in memory only", e);
+            close();
+        }
+    }
+
+    private void load() throws SQLException {
+        Map<UUID, Map<String, Long>> loaded = new HashMap<>();
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(SELECT_ALL)) {
+            while (rows.next()) {
+                UUID player = parseUuid(rows.getString(1));
+                if (player != null) {
+                    loaded.computeIfAbsent(player, ignored -> new HashMap<>()).put(rows.getString(2), rows.getLong(3));
+                }
+            }
+        }
+
+        loaded.forEach((player, values) -> stats.put(player, new PlayerStats(Map.copyOf(values))));
+    }
+
+    /**
+     * Writes dirty players in batched transactions
+     * A failed batch is rolled back and its players stay dirty for the next flush
+     */
+    private void flush() {
+        if (connection == null || dirty.isEmpty()) {
+            return;
+        }
+
+        int batchSize = Math.max(1, Configuration.STATS.BATCH_SIZE);
+        List<UUID> pending = new ArrayList<>(dirty);
+
+        for (int start = 0; start < pending.size(); start += batchSize) {
+            List<UUID> batch = pending.subList(start, Math.min(start + batchSize, pending.size()));
+
+            if (!writeBatch(batch)) {
+                return;
+            }
+
+            batch.forEach(dirty::remove);
+        }
+    }
+
+    private boolean writeBatch(List<UUID> batch) {
+        try {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+                for (UUID player : batch) {
+                    String id = player.toString();
+
+                    for (Map.Entry<String, Long> entry : get(player).values().entrySet()) {
+                        statement.setString(1, id);
+                        statement.setString(2, entry.getKey());
+                        statement.setLong(3, entry.getValue());
+                        statement.addBatch();
+                    }
+                }
+
+                statement.executeBatch();
+            }
+
+            connection.commit();
+            return true;
+        } catch (SQLException e) {
+            rollback();
+            plugin.getLogger().log(Level.WARNING, "Failed to flush stats, retrying on the next flush", e);
+            return false;
+        }
+    }
+
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException ignored) {
+            // Connection is unusable, the next flush reports the failure
+        }
+    }
+
+    private void close() {
+        if (connection == null) {
+            return;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to close stats database", e);
+        }
+
+        connection = null;
+    }
+
+    private UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
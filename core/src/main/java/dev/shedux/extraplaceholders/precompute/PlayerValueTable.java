@@ -0,0 +1,105 @@
+package dev.shedux.extraplaceholders.precompute;
+
+import dev.shedux.extraplaceholders.expansion.CompiledPlaceholder;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player table of precomputed placeholder values
+ * Tracks which placeholders a player actually requests and when
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class PlayerValueTable {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Marks a placeholder as requested and returns its entry
+     *
+     * @param placeholder the requested placeholder
+     * @param tick the current service tick
+     * @return the tracked entry
+     */
+    public Entry track(CompiledPlaceholder placeholder, long tick) {
+        Entry entry = entries.computeIfAbsent(placeholder.getParams(), key -> new Entry(placeholder));
+        entry.lastRequestedTick = tick;
+        return entry;
+    }
+
+    /**
+     * Removes entries that have not been requested since the given tick
+     *
+     * @param oldestTick the oldest request tick still considered active
+     */
+    public void expire(long oldestTick) {
+        entries.values().removeIf(entry -> entry.lastRequestedTick < oldestTick);
+    }
+
+    /**
+     * Gets all tracked entries
+     *
+     * @return live view of the tracked entries
+     */
+    public Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    /**
+     * Checks if no placeholders are tracked
+     *
+     * @return true if the table is empty
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * A single precomputed placeholder value
+     */
+    public static final class Entry {
+
+        @Getter
+        private final CompiledPlaceholder placeholder;
+
+        private volatile String value;
+        private volatile boolean computed;
+        private volatile long lastRequestedTick;
+
+        private Entry(CompiledPlaceholder placeholder) {
+            this.placeholder = placeholder;
+        }
+
+        /**
+         * Checks if a value has been computed yet
+         *
+         * @return true if a value is available
+         */
+        public boolean isComputed() {
+            return computed;
+        }
+
+        /**
+         * Gets the last computed value
+         *
+         * @return the value, may be null if the handler returned null
+         */
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Stores a newly computed value
+         *
+         * @param value the computed value
+         */
+        public void update(String value) {
+            this.value = value;
+            this.computed = true;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package dev.shedux.extraplaceholders.precompute;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.expansion.CompiledPlaceholder;
+import dev.shedux.extraplaceholders.metrics.CacheCounter;
+import dev.shedux.extraplaceholders.metrics.MetricsRegistry;
+import dev.shedux.extraplaceholders.shedding.LoadShedder;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Demand-driven background precomputation of placeholder values
+ * Recomputes only the placeholders each online player actually requests,
+ * spreading the work across ticks by player hash bucket
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class PrecomputeService {
+
+    private static final long TICKS_PER_SECOND = 20L;
+
+    private final JavaPlugin plugin;
+    private final LoadShedder loadShedder;
+    private final Map<UUID, PlayerValueTable> tables = new ConcurrentHashMap<>();
+    private final CacheCounter valueCache = MetricsRegistry.forCache("precomputed_values");
+
+    private volatile long currentTick;
+    private BukkitTask task;
+
+    /**
+     * Creates a new precompute service
+     *
+     * @param plugin the owning plugin
+     * @param loadShedder the shedder deciding when expensive recomputes are deferred
+     */
+    public PrecomputeService(JavaPlugin plugin, LoadShedder loadShedder) {
+        this.plugin = plugin;
+        this.loadShedder = loadShedder;
+    }
+
+    /**
+     * Starts the per-tick precompute task
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops the precompute task and drops all tables
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        tables.clear();
+    }
+
+    /**
+     * Drops every tracked value
+     * Called when the handler set changes, since entries hold the compiled placeholder
+     * they were created with; the next request tracks a freshly compiled one
+     */
+    public void clear() {
+        tables.clear();
+    }
+
+    /**
+     * Checks if requests should be served from the value tables
+     *
+     * @return true if the service is running and enabled
+     */
+    public boolean isActive() {
+        return task != null && Configuration.PRECOMPUTE.ENABLED;
+    }
+
+    /**
+     * Resolves a placeholder through the player's value table
+     * The first request computes synchronously, later requests read the table
+     *
+     * @param player the online player
+     * @param placeholder the compiled placeholder
+     * @return the precomputed or freshly computed value
+     */
+    public String resolve(Player player, CompiledPlaceholder placeholder) {
+        PlayerValueTable table = tables.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerValueTable());
+        PlayerValueTable.Entry entry = table.track(placeholder, currentTick);
+
+        if (entry.isComputed()) {
+            valueCache.hit();
+            return entry.getValue();
+        }
+
+        valueCache.miss();
+
+        String value = placeholder.resolve(player);
+        entry.update(value);
+        return value;
+    }
+
+    /**
+     * Runs one precompute step for the bucket owning the current tick
+     */
+    private void tick() {
+        long tick = ++currentTick;
+
+        if (!Configuration.PRECOMPUTE.ENABLED) {
+            tables.clear();
+            return;
+        }
+
+        int buckets = Math.max(1, Configuration.PRECOMPUTE.SPREAD_TICKS);
+        int bucket = (int) (tick % buckets);
+        long oldestTick = tick - Configuration.PRECOMPUTE.EXPIRY_SECONDS * TICKS_PER_SECOND;
+
+        boolean shedding = loadShedder.isShedding();
+        List<AsyncJob> asyncJobs = new ArrayList<>();
+        Iterator<Map.Entry<UUID, PlayerValueTable>> iterator = tables.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PlayerValueTable> tableEntry = iterator.next();
+
+            if (Math.floorMod(tableEntry.getKey().hashCode(), buckets) != bucket) {
+                continue;
+            }
+
+            Player player = Bukkit.getPlayer(tableEntry.getKey());
+            PlayerValueTable table = tableEntry.getValue();
+            table.expire(oldestTick);
+
+            if (player == null || table.isEmpty()) {
+                iterator.remove();
+                continue;
+            }
+
+            for (PlayerValueTable.Entry entry : table.getEntries()) {
+                if (shedding && entry.isComputed() && entry.getPlaceholder().isSheddable()) {
+                    entry.getPlaceholder().getHandlerStats().recordShed();
+                    continue;
+                }
+
+                if (entry.getPlaceholder().isAsyncSafe()) {
+                    asyncJobs.add(new AsyncJob(player, entry));
+                } else {
+                    recompute(player, entry);
+                }
+            }
+        }
+
+        if (!asyncJobs.isEmpty()) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> asyncJobs.forEach(job -> recompute(job.player(), job.entry())));
+        }
+    }
+
+    /**
+     * Recomputes a single entry, keeping the previous value on failure
+     *
+     * @param player the player to resolve for
+     * @param entry the entry to refresh
+     */
+    private void recompute(OfflinePlayer player, PlayerValueTable.Entry entry) {
+        try {
+            entry.update(entry.getPlaceholder().resolve(player));
+        } catch (Exception ignored) {
+            // Keep serving the last known value
+        }
+    }
+
+    private record AsyncJob(Player player, PlayerValueTable.Entry entry) {}
+}
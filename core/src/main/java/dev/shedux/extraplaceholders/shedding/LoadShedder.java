@@ -0,0 +1,229 @@
+package dev.shedux.extraplaceholders.shedding;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.expansion.CompiledPlaceholder;
+import dev.shedux.extraplaceholders.monitor.TickMonitor;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Serves the last known value of expensive placeholders while ticks are over budget
+ * Cheap handlers stay fully live; expensive ones are recomputed on the first tick
+ * after the average tick duration drops back under the threshold
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class LoadShedder {
+
+    private static final long CLEANUP_INTERVAL_TICKS = 20L * 60L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final JavaPlugin plugin;
+    private final TickMonitor tickMonitor;
+    private final Map<UUID, Map<String, StaleValue>> lastValues = new ConcurrentHashMap<>();
+    private final Queue<Refresh> pendingRefreshes = new ConcurrentLinkedQueue<>();
+
+    private BukkitTask task;
+    private long ticks;
+
+    /**
+     * Creates a new load shedder
+     *
+     * @param plugin the owning plugin
+     * @param tickMonitor the tick duration source
+     */
+    public LoadShedder(JavaPlugin plugin, TickMonitor tickMonitor) {
+        this.plugin = plugin;
+        this.tickMonitor = tickMonitor;
+    }
+
+    /**
+     * Starts the per-tick task running deferred recomputes and dropping old values
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops the task and drops all remembered values
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        lastValues.clear();
+        pendingRefreshes.clear();
+    }
+
+    /**
+     * Checks if a placeholder goes through the shedder
+     *
+     * @param player the player to resolve for
+     * @param placeholder the compiled placeholder
+     * @return true if shedding is enabled and the placeholder is expensive
+     */
+    public boolean handles(OfflinePlayer player, CompiledPlaceholder placeholder) {
+        return Configuration.SHEDDING.ENABLED && player != null && placeholder.isSheddable();
+    }
+
+    /**
+     * Checks if ticks are currently over budget
+     *
+     * @return true if expensive placeholders are being served stale
+     */
+    public boolean isShedding() {
+        return Configuration.SHEDDING.ENABLED
+                && tickMonitor.getAverageTickMillis() > Configuration.SHEDDING.MSPT_THRESHOLD;
+    }
+
+    /**
+     * Checks if ticks are close enough to the threshold that values are worth remembering
+     * Armed halfway between the nominal 50 ms tick and the threshold, so a healthy
+     * server neither looks up nor stores anything
+     *
+     * @return true if resolved values should be remembered
+     */
+    private boolean isArmed() {
+        double threshold = Configuration.SHEDDING.MSPT_THRESHOLD;
+        double armedAt = TickMonitor.NOMINAL_TICK_MILLIS + (threshold - TickMonitor.NOMINAL_TICK_MILLIS) / 2;
+        return tickMonitor.getAverageTickMillis() > Math.min(armedAt, threshold);
+    }
+
+    /**
+     * Resolves an expensive placeholder, serving the last known value under load
+     * A served value is recomputed on the first tick back under budget; values older
+     * than the configured maximum staleness are recomputed right away
+     *
+     * @param player the player to resolve for
+     * @param placeholder the compiled placeholder
+     * @return the live or last known value
+     */
+    public String resolve(OfflinePlayer player, CompiledPlaceholder placeholder) {
+        if (!isArmed()) {
+            return placeholder.resolve(player);
+        }
+
+        Map<String, StaleValue> values = lastValues.computeIfAbsent(player.getUniqueId(), uuid -> new ConcurrentHashMap<>());
+        StaleValue last = values.get(placeholder.getParams());
+        long now = System.nanoTime();
+
+        if (last != null && isShedding() && !last.isOlderThan(now, maxStaleNanos())) {
+            placeholder.recordShed();
+
+            if (last.markRefreshQueued()) {
+                pendingRefreshes.add(new Refresh(player.getUniqueId(), placeholder, last));
+            }
+
+            return last.value;
+        }
+
+        String value = placeholder.resolve(player);
+
+        if (last == null) {
+            values.put(placeholder.getParams(), new StaleValue(value, now));
+        } else {
+            last.update(value, now);
+        }
+
+        return value;
+    }
+
+    /**
+     * Runs deferred recomputes once ticks are back under budget
+     * and periodically drops values of players who went offline
+     */
+    private void tick() {
+        if (++ticks % CLEANUP_INTERVAL_TICKS == 0) {
+            cleanup();
+        }
+
+        if (pendingRefreshes.isEmpty() || isShedding()) {
+            return;
+        }
+
+        for (Refresh refresh = pendingRefreshes.poll(); refresh != null; refresh = pendingRefreshes.poll()) {
+            Player player = Bukkit.getPlayer(refresh.playerId());
+
+            // Skip values a live request already recomputed since they were queued
+            if (player == null || !refresh.value().refreshQueued) {
+                continue;
+            }
+
+            try {
+                refresh.value().update(refresh.placeholder().resolve(player), System.nanoTime());
+            } catch (Exception e) {
+                refresh.value().refreshQueued = false;
+            }
+        }
+    }
+
+    private void cleanup() {
+        lastValues.keySet().removeIf(uuid -> Bukkit.getPlayer(uuid) == null);
+
+        long now = System.nanoTime();
+        long maxStaleNanos = maxStaleNanos();
+        lastValues.values().forEach(values -> values.values().removeIf(value -> value.isOlderThan(now, maxStaleNanos)));
+    }
+
+    private long maxStaleNanos() {
+        return Configuration.SHEDDING.MAX_STALE_SECONDS * NANOS_PER_SECOND;
+    }
+
+    /**
+     * Last known value of a placeholder for one player, updated in place
+     */
+    private static final class StaleValue {
+
+        private volatile String value;
+        private volatile long computedAt;
+        private volatile boolean refreshQueued;
+
+        private StaleValue(String value, long computedAt) {
+            this.value = value;
+            this.computedAt = computedAt;
+        }
+
+        private void update(String value, long computedAt) {
+            this.value = value;
+            this.computedAt = computedAt;
+            this.refreshQueued = false;
+        }
+
+        private boolean isOlderThan(long now, long maxAgeNanos) {
+            return now - computedAt >= maxAgeNanos;
+        }
+
+        /**
+         * Marks the value as queued for a recompute
+         * Not atomic; a race at worst queues the same recompute twice
+         *
+         * @return true if it was not queued yet
+         */
+        private boolean markRefreshQueued() {
+            if (refreshQueued) {
+                return false;
+            }
+
+            refreshQueued = true;
+            return true;
+        }
+    }
+
+    private record Refresh(UUID playerId, CompiledPlaceholder placeholder, StaleValue value) {}
+}
@@ -0,0 +1,255 @@
+package dev.shedux.extraplaceholders.subscription;
+
+import dev.shedux.extraplaceholders.api.PlaceholderListener;
+import dev.shedux.extraplaceholders.api.Subscription;
+import dev.shedux.extraplaceholders.api.event.PlaceholderValueChangeEvent;
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.expansion.CompiledPlaceholder;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Push-based placeholder change notifications
+ * Only subscribed placeholders are re-resolved, and listeners are notified
+ * only when the value differs from the last one delivered
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class SubscriptionService {
+
+    private final JavaPlugin plugin;
+    private final ExtraPlaceholdersExpansion expansion;
+    private final Map<UUID, Map<String, WatchedPlaceholder>> watched = new ConcurrentHashMap<>();
+
+    private BukkitTask task;
+
+    /**
+     * Creates a new subscription service
+     *
+     * @param plugin the owning plugin
+     * @param expansion the expansion used to resolve placeholders
+     */
+    public SubscriptionService(JavaPlugin plugin, ExtraPlaceholdersExpansion expansion) {
+        this.plugin = plugin;
+        this.expansion = expansion;
+    }
+
+    /**
+     * Starts the change detection task
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+
+        long interval = Math.max(1, Configuration.SUBSCRIPTIONS.CHECK_INTERVAL_TICKS);
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::check, interval, interval);
+    }
+
+    /**
+     * Stops the change detection task and drops all subscriptions
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        watched.clear();
+    }
+
+    /**
+     * Subscribes a listener to value changes of a placeholder
+     *
+     * @param player the player to resolve the placeholder for
+     * @param placeholder the placeholder, with or without identifier and percent signs
+     * @param listener the listener to notify
+     * @return the subscription handle
+     * @throws IllegalArgumentException if the placeholder is not handled by this expansion
+     */
+    public Subscription subscribe(Player player, String placeholder, PlaceholderListener listener) {
+        String params = expansion.toParams(placeholder);
+        long generation = expansion.getHandlerGeneration();
+        CompiledPlaceholder compiled = expansion.compile(params);
+
+        if (compiled == null) {
+            throw new IllegalArgumentException("Unknown placeholder: " + placeholder);
+        }
+
+        ListenerSubscription[] subscription = new ListenerSubscription[1];
+
+        // Added inside compute so check() cannot drop the watcher between lookup and add
+        watched.computeIfAbsent(player.getUniqueId(), uuid -> new ConcurrentHashMap<>())
+                .compute(params, (key, existing) -> {
+                    WatchedPlaceholder watchedPlaceholder = existing != null
+                            ? existing
+                            : new WatchedPlaceholder(params, compiled, generation);
+                    subscription[0] = new ListenerSubscription(watchedPlaceholder, listener);
+                    watchedPlaceholder.subscriptions.add(subscription[0]);
+                    return watchedPlaceholder;
+                });
+
+        return subscription[0];
+    }
+
+    /**
+     * Re-resolves every watched placeholder and delivers changes
+     */
+    private void check() {
+        Iterator<Map.Entry<UUID, Map<String, WatchedPlaceholder>>> iterator = watched.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Map<String, WatchedPlaceholder>> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+
+            if (player == null) {
+                entry.getValue().values().forEach(watchedPlaceholder -> watchedPlaceholder.subscriptions.clear());
+                iterator.remove();
+                continue;
+            }
+
+            Map<String, WatchedPlaceholder> placeholders = entry.getValue();
+
+            for (String params : placeholders.keySet()) {
+                placeholders.computeIfPresent(params, (key, watchedPlaceholder) ->
+                        watchedPlaceholder.subscriptions.isEmpty() ? null : watchedPlaceholder);
+            }
+
+            for (WatchedPlaceholder watchedPlaceholder : placeholders.values()) {
+                String value = resolve(player, watchedPlaceholder);
+
+                if (watchedPlaceholder.delivered && Objects.equals(value, watchedPlaceholder.lastValue)) {
+                    deliverInitial(player, watchedPlaceholder);
+                    continue;
+                }
+
+                String oldValue = watchedPlaceholder.lastValue;
+                watchedPlaceholder.lastValue = value;
+                watchedPlaceholder.delivered = true;
+                deliver(player, watchedPlaceholder, oldValue, value);
+            }
+        }
+    }
+
+    /**
+     * Resolves a watched placeholder, compiling its params again after handlers changed
+     * so a handler that was unregistered and registered again is picked up
+     *
+     * @param player the player to resolve for
+     * @param watchedPlaceholder the watched placeholder
+     * @return the resolved value, or null while no handler accepts the params
+     */
+    private String resolve(Player player, WatchedPlaceholder watchedPlaceholder) {
+        long generation = expansion.getHandlerGeneration();
+
+        if (watchedPlaceholder.generation != generation) {
+            watchedPlaceholder.placeholder = expansion.compile(watchedPlaceholder.params);
+            watchedPlaceholder.generation = generation;
+        }
+
+        CompiledPlaceholder compiled = watchedPlaceholder.placeholder;
+        return compiled == null ? null : expansion.resolve(player, compiled);
+    }
+
+    /**
+     * Fires the change event and notifies every listener
+     *
+     * @param player the player the value belongs to
+     * @param watchedPlaceholder the changed placeholder
+     * @param oldValue the previously delivered value
+     * @param newValue the newly resolved value
+     */
+    private void deliver(Player player, WatchedPlaceholder watchedPlaceholder, String oldValue, String newValue) {
+        String params = watchedPlaceholder.params;
+        Bukkit.getPluginManager().callEvent(new PlaceholderValueChangeEvent(player, params, oldValue, newValue));
+
+        for (ListenerSubscription subscription : watchedPlaceholder.subscriptions) {
+            // Late subscribers never saw the old value, so they get the new one as their first
+            notify(player, subscription, params, subscription.initialized ? oldValue : null, newValue);
+        }
+    }
+
+    /**
+     * Delivers the current value to subscribers added after it was first delivered
+     *
+     * @param player the player the value belongs to
+     * @param watchedPlaceholder the unchanged placeholder
+     */
+    private void deliverInitial(Player player, WatchedPlaceholder watchedPlaceholder) {
+        String params = watchedPlaceholder.params;
+
+        for (ListenerSubscription subscription : watchedPlaceholder.subscriptions) {
+            if (!subscription.initialized) {
+                notify(player, subscription, params, null, watchedPlaceholder.lastValue);
+            }
+        }
+    }
+
+    private void notify(Player player, ListenerSubscription subscription, String params, String oldValue, String newValue) {
+        subscription.initialized = true;
+
+        try {
+            subscription.listener.onChange(player, params, oldValue, newValue);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * A placeholder watched for a single player
+     */
+    private static final class WatchedPlaceholder {
+
+        private final String params;
+        private final List<ListenerSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+        private CompiledPlaceholder placeholder;
+        private long generation;
+        private String lastValue;
+        private boolean delivered;
+
+        private WatchedPlaceholder(String params, CompiledPlaceholder placeholder, long generation) {
+            this.params = params;
+            this.placeholder = placeholder;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Subscription bound to a single listener
+     */
+    private static final class ListenerSubscription implements Subscription {
+
+        private final WatchedPlaceholder watchedPlaceholder;
+        private final PlaceholderListener listener;
+
+        private boolean initialized;
+
+        private ListenerSubscription(WatchedPlaceholder watchedPlaceholder, PlaceholderListener listener) {
+            this.watchedPlaceholder = watchedPlaceholder;
+            this.listener = listener;
+        }
+
+        @Override
+        public void unsubscribe() {
+            watchedPlaceholder.subscriptions.remove(this);
+        }
+
+        @Override
+        public boolean isActive() {
+            return watchedPlaceholder.subscriptions.contains(this);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package dev.shedux.extraplaceholders.template;
+
+import dev.shedux.extraplaceholders.expansion.CompiledPlaceholder;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import dev.shedux.extraplaceholders.util.MessageUtil;
+import lombok.Getter;
+import me.clip.placeholderapi.PlaceholderAPI;
+import org.bukkit.ChatColor;
+import org.bukkit.OfflinePlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scoreboard line parsed once into literal and placeholder segments
+ * Literal parts are colorized at compile time and extraplaceholders tokens are bound
+ * to their handlers, so rendering is a straight append without rescanning the line;
+ * lines whose color spans cross a token are colorized as a whole after rendering instead
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class PlaceholderTemplate {
+
+    private static final char TOKEN_DELIMITER = '%';
+    private static final char TOKEN_SEPARATOR = '_';
+    private static final char COLOR_CHAR = '&';
+    private static final char SPAN_OPEN = '<';
+    private static final char SPAN_CLOSE = '>';
+    private static final char TOKEN_MARKER = '\uE000';
+    private static final int INITIAL_BUFFER_SIZE = 64;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_SIZE));
+
+    @Getter
+    private final String source;
+
+    private final Segment[] segments;
+    private final boolean colorizeLine;
+
+    private PlaceholderTemplate(String source, Segment[] segments, boolean colorizeLine) {
+        this.source = source;
+        this.segments = segments;
+        this.colorizeLine = colorizeLine;
+    }
+
+    /**
+     * Parses a line into a template
+     *
+     * @param expansion the expansion used to bind extraplaceholders tokens
+     * @param source the raw line, e.g. "&eDate: &f%extraplaceholders_server_date%"
+     * @return the compiled template
+     */
+    public static PlaceholderTemplate compile(ExtraPlaceholdersExpansion expansion, String source) {
+        String prefix = expansion.getIdentifier() + TOKEN_SEPARATOR;
+        List<Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+
+        while (index < source.length()) {
+            char c = source.charAt(index);
+            int end = c == TOKEN_DELIMITER ? source.indexOf(TOKEN_DELIMITER, index + 1) : -1;
+
+            if (end == -1 || !isToken(source, index + 1, end, prefix)) {
+                literal.append(c);
+                index++;
+                continue;
+            }
+
+            flushLiteral(literal, parts);
+            parts.add(new Part(source.substring(index, end + 1), true));
+            index = end + 1;
+        }
+
+        flushLiteral(literal, parts);
+
+        boolean colorizeLine = colorSpansCrossTokens(parts);
+        Segment[] segments = new Segment[parts.size()];
+
+        for (int i = 0; i < segments.length; i++) {
+            Part part = parts.get(i);
+            segments[i] = part.token()
+                    ? createTokenSegment(expansion, prefix, part.text(), !colorizeLine)
+                    : new LiteralSegment(colorizeLine ? part.text() : MessageUtil.colorize(part.text()));
+        }
+
+        return new PlaceholderTemplate(source, segments, colorizeLine);
+    }
+
+    /**
+     * Renders the template for a player
+     *
+     * @param player the player to resolve placeholders for
+     * @return the rendered, colorized line
+     */
+    public String render(OfflinePlayer player) {
+        StringBuilder builder = BUFFER.get();
+        builder.setLength(0);
+
+        for (Segment segment : segments) {
+            segment.appendTo(builder, player);
+        }
+
+        return colorizeLine ? MessageUtil.colorize(builder.toString()) : builder.toString();
+    }
+
+    /**
+     * Gets the number of compiled segments
+     *
+     * @return the segment count
+     */
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    private static boolean isToken(String source, int start, int end, String prefix) {
+        // Own tokens may contain spaces, e.g. expressions, as PlaceholderAPI's %[^%]+% allows
+        if (end - start > prefix.length() && source.regionMatches(true, start, prefix, 0, prefix.length())) {
+            return true;
+        }
+
+        boolean hasSeparator = false;
+
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                return false;
+            }
+
+            hasSeparator |= c == TOKEN_SEPARATOR;
+        }
+
+        return hasSeparator;
+    }
+
+    private static void flushLiteral(StringBuilder literal, List<Part> parts) {
+        if (literal.length() == 0) {
+            return;
+        }
+
+        parts.add(new Part(literal.toString(), false));
+        literal.setLength(0);
+    }
+
+    /**
+     * Checks if colorizing literals one by one would differ from colorizing the rendered line
+     * A gradient or code left open before a token only takes effect across the whole line
+     *
+     * @param parts the parsed literal and token parts
+     * @return true if the template must colorize the rendered line as a whole
+     */
+    private static boolean colorSpansCrossTokens(List<Part> parts) {
+        StringBuilder joined = new StringBuilder();
+        StringBuilder separate = new StringBuilder();
+
+        for (int i = 0; i < parts.size(); i++) {
+            Part part = parts.get(i);
+
+            if (part.token()) {
+                joined.append(TOKEN_MARKER);
+                separate.append(TOKEN_MARKER);
+                continue;
+            }
+
+            if (i + 1 < parts.size() && endsInsideCode(part.text())) {
+                return true;
+            }
+
+            joined.append(part.text());
+            separate.append(MessageUtil.colorize(part.text()));
+        }
+
+        return !MessageUtil.colorize(joined.toString()).equals(separate.toString());
+    }
+
+    private static boolean endsInsideCode(String literal) {
+        // A trailing '&' or unclosed '<' would pair with the first characters of the token's value
+        return literal.charAt(literal.length() - 1) == COLOR_CHAR
+                || literal.lastIndexOf(SPAN_OPEN) > literal.lastIndexOf(SPAN_CLOSE);
+    }
+
+    private static Segment createTokenSegment(ExtraPlaceholdersExpansion expansion, String prefix, String token,
+                                              boolean translateValue) {
+        if (!token.regionMatches(true, 1, prefix, 0, prefix.length())) {
+            return new ForeignSegment(token);
+        }
+
+        CompiledPlaceholder placeholder = expansion.compile(expansion.toParams(token));
+        return placeholder == null
+                ? new LiteralSegment(token)
+                : new PlaceholderSegment(expansion, placeholder, token, translateValue);
+    }
+
+    /**
+     * A raw piece of the source line, either literal text or a %...% token
+     */
+    private record Part(String text, boolean token) {
+    }
+
+    /**
+     * A compiled part of a template
+     */
+    private interface Segment {
+        void appendTo(StringBuilder builder, OfflinePlayer player);
+    }
+
+    /**
+     * Literal text, pre-colorized unless the whole line is colorized on render
+     */
+    private record LiteralSegment(String text) implements Segment {
+        @Override
+        public void appendTo(StringBuilder builder, OfflinePlayer player) {
+            builder.append(text);
+        }
+    }
+
+    /**
+     * An extraplaceholders token bound to its handler
+     */
+    private record PlaceholderSegment(ExtraPlaceholdersExpansion expansion, CompiledPlaceholder placeholder,
+                                      String token, boolean translateValue) implements Segment {
+        @Override
+        public void appendTo(StringBuilder builder, OfflinePlayer player) {
+            String value = expansion.resolve(player, placeholder);
+
+            if (value == null) {
+                builder.append(token);
+            } else {
+                builder.append(translateValue ? ChatColor.translateAlternateColorCodes(COLOR_CHAR, value) : value);
+            }
+        }
+    }
+
+    /**
+     * A token owned by another expansion, delegated to PlaceholderAPI
+     */
+    private record ForeignSegment(String token) implements Segment {
+        @Override
+        public void appendTo(StringBuilder builder, OfflinePlayer player) {
+            builder.append(PlaceholderAPI.setPlaceholders(player, token));
+        }
+    }
+}
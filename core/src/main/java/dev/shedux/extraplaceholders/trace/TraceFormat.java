@@ -0,0 +1,27 @@
+package dev.shedux.extraplaceholders.trace;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Binary layout of request trace files
+ * Header: magic, version, start epoch millis, end position.
+ * Record: offset nanos, uuid msb, uuid lsb, thread id, flags, params length, params UTF-8
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+class TraceFormat {
+
+    static final int MAGIC = 0x45505452; // "EPTR"
+    static final int VERSION = 1;
+
+    static final int END_POSITION_OFFSET = 16;
+    static final int HEADER_SIZE = 24;
+
+    static final int RECORD_FIXED_SIZE = Long.BYTES * 4 + Byte.BYTES + Short.BYTES;
+    static final int MAX_PARAMS_BYTES = Short.MAX_VALUE;
+
+    static final byte FLAG_PRIMARY_THREAD = 1;
+    static final byte FLAG_HAS_PLAYER = 1 << 1;
+}
@@ -0,0 +1,69 @@
+package dev.shedux.extraplaceholders.trace;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads request trace files written by {@link TraceWriter}
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+public class TraceReader {
+
+    /**
+     * Reads every record of a trace file
+     *
+     * @param file the trace file
+     * @return the records in capture order
+     * @throws IOException if the file cannot be read or is not a trace
+     */
+    public List<TraceRecord> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < TraceFormat.HEADER_SIZE
+                    || buffer.getInt() != TraceFormat.MAGIC
+                    || buffer.getInt() != TraceFormat.VERSION) {
+                throw new IOException("Not an ExtraPlaceholders trace: " + file.getFileName());
+            }
+
+            buffer.getLong(); // start epoch millis
+            long end = Math.min(buffer.getLong(), buffer.limit());
+            buffer.limit((int) end);
+
+            List<TraceRecord> records = new ArrayList<>();
+
+            while (buffer.remaining() >= TraceFormat.RECORD_FIXED_SIZE) {
+                records.add(readRecord(buffer));
+            }
+
+            return records;
+        }
+    }
+
+    private TraceRecord readRecord(ByteBuffer buffer) {
+        long offsetNanos = buffer.getLong();
+        long most = buffer.getLong();
+        long least = buffer.getLong();
+        long threadId = buffer.getLong();
+        byte flags = buffer.get();
+        byte[] params = new byte[buffer.getShort()];
+        buffer.get(params);
+
+        UUID player = (flags & TraceFormat.FLAG_HAS_PLAYER) != 0 ? new UUID(most, least) : null;
+        boolean primaryThread = (flags & TraceFormat.FLAG_PRIMARY_THREAD) != 0;
+
+        return new TraceRecord(offsetNanos, player, threadId, primaryThread, new String(params, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,16 @@
+package dev.shedux.extraplaceholders.trace;
+
+import java.util.UUID;
+
+/**
+ * A single captured placeholder request
+ *
+ * @param offsetNanos nanoseconds since the capture started
+ * @param player the requesting player, or null for console requests
+ * @param threadId the id of the requesting thread
+ * @param primaryThread whether the request ran on the server thread
+ * @param params the raw placeholder params
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public record TraceRecord(long offsetNanos, UUID player, long threadId, boolean primaryThread, String params) {}
@@ -0,0 +1,89 @@
+package dev.shedux.extraplaceholders.trace;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Captures every placeholder request into a trace file while recording
+ * When idle the cost on the request path is a single volatile read
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class TraceRecorder {
+
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String FILE_EXTENSION = ".eptrace";
+
+    private volatile TraceWriter writer;
+
+    /**
+     * Starts a new capture in the given directory
+     *
+     * @param directory the directory to create the trace file in
+     * @param capacity the maximum trace size in bytes
+     * @return the created trace file
+     * @throws IOException if the file cannot be created
+     * @throws IllegalStateException if a capture is already running
+     */
+    public synchronized Path start(Path directory, long capacity) throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("A trace capture is already running");
+        }
+
+        Files.createDirectories(directory);
+        Path file = directory.resolve("trace-" + LocalDateTime.now().format(FILE_NAME_FORMAT) + FILE_EXTENSION);
+        writer = new TraceWriter(file, capacity);
+        return file;
+    }
+
+    /**
+     * Stops the running capture
+     *
+     * @return the closed writer, or null if nothing was recording
+     * @throws IOException if the trace cannot be flushed
+     */
+    public synchronized TraceWriter stop() throws IOException {
+        TraceWriter current = writer;
+
+        if (current == null) {
+            return null;
+        }
+
+        writer = null;
+        current.close();
+        return current;
+    }
+
+    /**
+     * Checks if a capture is running
+     *
+     * @return true if requests are being recorded
+     */
+    public boolean isRecording() {
+        return writer != null;
+    }
+
+    /**
+     * Records a request if a capture is running
+     *
+     * @param player the requesting player, may be null
+     * @param params the raw placeholder params
+     */
+    public void record(OfflinePlayer player, String params) {
+        TraceWriter current = writer;
+
+        if (current == null) {
+            return;
+        }
+
+        current.append(player != null ? player.getUniqueId() : null, params,
+                Thread.currentThread().getId(), Bukkit.isPrimaryThread());
+    }
+}
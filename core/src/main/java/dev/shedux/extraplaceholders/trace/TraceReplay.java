@@ -0,0 +1,154 @@
+package dev.shedux.extraplaceholders.trace;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.expansion.CompiledPlaceholder;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import dev.shedux.extraplaceholders.metrics.LatencyHistogram;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Replays a captured request trace against the handlers
+ * Driven either in-game on the main thread, never spending more than the configured budget per tick,
+ * or by the offline replay against in-memory fakes
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class TraceReplay {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final ExtraPlaceholdersExpansion expansion;
+    private final List<TraceRecord> records;
+    private final double speed;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private BukkitTask task;
+    private long startNanos = -1;
+    private long busyNanos;
+    private int index;
+    private int unresolved;
+    private int errors;
+
+    /**
+     * Creates a new trace replay, timed from its first step
+     *
+     * @param expansion the expansion to resolve against
+     * @param records the captured records
+     * @param speed playback speed multiplier, 1 for recorded speed, 0 for as fast as the budget allows
+     */
+    public TraceReplay(ExtraPlaceholdersExpansion expansion, List<TraceRecord> records, double speed) {
+        this.expansion = expansion;
+        this.records = records;
+        this.speed = speed;
+    }
+
+    /**
+     * Starts replaying a trace on the main thread
+     *
+     * @param plugin the owning plugin
+     * @param expansion the expansion to resolve against
+     * @param records the captured records
+     * @param speed playback speed multiplier, 1 for recorded speed, 0 for as fast as the tick budget allows
+     * @param callback called on the main thread once every record was replayed
+     */
+    public static void start(JavaPlugin plugin, ExtraPlaceholdersExpansion expansion, List<TraceRecord> records,
+                             double speed, Consumer<Result> callback) {
+        TraceReplay replay = new TraceReplay(expansion, records, speed);
+
+        replay.task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (replay.step(Configuration.TRACE.REPLAY_TICK_BUDGET_MS * NANOS_PER_MILLI)) {
+                replay.task.cancel();
+                callback.accept(replay.getResult());
+            }
+        }, 1L, 1L);
+    }
+
+    /**
+     * Replays every due record until the budget is spent
+     *
+     * @param budgetNanos the maximum time to spend
+     * @return true once every record was replayed
+     */
+    public boolean step(long budgetNanos) {
+        long stepStart = System.nanoTime();
+
+        if (startNanos < 0) {
+            startNanos = stepStart;
+        }
+
+        long due = speed > 0 ? (long) ((stepStart - startNanos) * speed) : Long.MAX_VALUE;
+
+        while (index < records.size()
+                && records.get(index).offsetNanos() <= due
+                && System.nanoTime() - stepStart < budgetNanos) {
+            replay(records.get(index++));
+        }
+
+        return index >= records.size();
+    }
+
+    /**
+     * Summarizes the records replayed so far
+     *
+     * @return the result
+     */
+    public Result getResult() {
+        long wallNanos = startNanos < 0 ? 0 : System.nanoTime() - startNanos;
+        return new Result(index, unresolved, errors, wallNanos, busyNanos,
+                histogram.getPercentile(50), histogram.getPercentile(99), histogram.getMax());
+    }
+
+    private void replay(TraceRecord record) {
+        CompiledPlaceholder placeholder = expansion.compile(record.params());
+
+        if (placeholder == null) {
+            unresolved++;
+            return;
+        }
+
+        OfflinePlayer player = record.player() != null ? Bukkit.getOfflinePlayer(record.player()) : null;
+        long startTime = System.nanoTime();
+
+        try {
+            placeholder.resolve(player);
+        } catch (Exception e) {
+            errors++;
+        }
+
+        long duration = System.nanoTime() - startTime;
+        busyNanos += duration;
+        histogram.record(duration);
+    }
+
+    /**
+     * Replay summary
+     *
+     * @param records the number of replayed records
+     * @param unresolved records whose params no handler accepts
+     * @param errors records whose handler threw
+     * @param wallNanos total replay time including waiting for due records
+     * @param busyNanos time spent resolving
+     * @param p50 median resolution latency
+     * @param p99 99th percentile resolution latency
+     * @param max highest resolution latency
+     */
+    public record Result(int records, int unresolved, int errors, long wallNanos, long busyNanos,
+                         long p50, long p99, long max) {
+
+        /**
+         * Gets resolutions per second of busy time
+         *
+         * @return the throughput
+         */
+        public double throughput() {
+            return busyNanos == 0 ? 0 : (records - unresolved) * 1_000_000_000.0 / busyNanos;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package dev.shedux.extraplaceholders.trace;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Append-only request trace backed by a memory-mapped file
+ * Appends are plain buffer writes; the end position in the header is
+ * updated after every record so a crashed capture is still readable
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class TraceWriter implements AutoCloseable {
+
+    @Getter
+    private final Path file;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long startNanos;
+
+    @Getter
+    private long recordCount;
+
+    private boolean full;
+
+    /**
+     * Creates a new trace file, replacing any existing file
+     *
+     * @param file the trace file
+     * @param capacity the maximum file size in bytes
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public TraceWriter(Path file, long capacity) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(capacity, Integer.MAX_VALUE));
+        this.startNanos = System.nanoTime();
+
+        buffer.putInt(TraceFormat.MAGIC);
+        buffer.putInt(TraceFormat.VERSION);
+        buffer.putLong(System.currentTimeMillis());
+        buffer.putLong(TraceFormat.HEADER_SIZE);
+    }
+
+    /**
+     * Appends a request to the trace
+     *
+     * @param player the requesting player, may be null
+     * @param params the raw placeholder params
+     * @param threadId the requesting thread id
+     * @param primaryThread whether the request ran on the server thread
+     * @return false if the trace is full or closed and the request was dropped
+     */
+    public synchronized boolean append(UUID player, String params, long threadId, boolean primaryThread) {
+        if (full) {
+            return false;
+        }
+
+        byte[] bytes = params.getBytes(StandardCharsets.UTF_8);
+        int length = truncatedLength(bytes);
+
+        if (buffer.remaining() < TraceFormat.RECORD_FIXED_SIZE + length) {
+            full = true;
+            return false;
+        }
+
+        byte flags = primaryThread ? TraceFormat.FLAG_PRIMARY_THREAD : 0;
+
+        if (player != null) {
+            flags |= TraceFormat.FLAG_HAS_PLAYER;
+        }
+
+        buffer.putLong(System.nanoTime() - startNanos);
+        buffer.putLong(player != null ? player.getMostSignificantBits() : 0L);
+        buffer.putLong(player != null ? player.getLeastSignificantBits() : 0L);
+        buffer.putLong(threadId);
+        buffer.put(flags);
+        buffer.putShort((short) length);
+        buffer.put(bytes, 0, length);
+        buffer.putLong(TraceFormat.END_POSITION_OFFSET, buffer.position());
+
+        recordCount++;
+        return true;
+    }
+
+    /**
+     * Gets how many bytes of params fit in a record without splitting a UTF-8 character
+     *
+     * @param bytes the UTF-8 encoded params
+     * @return the number of bytes to write
+     */
+    private static int truncatedLength(byte[] bytes) {
+        if (bytes.length <= TraceFormat.MAX_PARAMS_BYTES) {
+            return bytes.length;
+        }
+
+        int length = TraceFormat.MAX_PARAMS_BYTES;
+
+        // A continuation byte right after the cut means the cut splits a character
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+
+        return length;
+    }
+
+    /**
+     * Checks if the trace reached its capacity
+     *
+     * @return true if further appends are dropped
+     */
+    public synchronized boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Flushes the mapping, cuts the file down to the written records and closes it
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        full = true;
+        buffer.force();
+
+        try {
+            channel.truncate(buffer.position());
+        } catch (IOException ignored) {
+            // Some platforms refuse to shrink a mapped file; readers stop at the end position anyway
+        }
+
+        channel.close();
+    }
+}
@@ -1,164 +1,50 @@
-package dev.shedux.extraplaceholders.handler;
+package dev.shedux.extraplaceholders.util;
 
 import dev.shedux.extraplaceholders.config.Configuration;
-import dev.shedux.extraplaceholders.core.Initializer;
-import dev.shedux.extraplaceholders.tracker.PhoenixTracker;
-import org.bukkit.OfflinePlayer;
-import org.bukkit.entity.Player;
-import xyz.refinedev.phoenix.BukkitAPI;
-import xyz.refinedev.phoenix.profile.IProfile;
-import xyz.refinedev.phoenix.profile.grant.IGrant;
-
-import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
-
-public final class PhoenixPlaceholderHandler implements PlaceholderHandler {
-
-    private static final String STATUS_COMMAND = "status";
-    private static final String EXPIRATION_COMMAND = "expiration";
-    private static final int MIN_ARGS = 2;
-    private static final int COMMAND_INDEX = 1;
-
-    @Override
-    public String handle(OfflinePlayer player, List<String> args) {
-        PhoenixTracker tracker = Initializer.getPhoenix();
-
-        if (!tracker.isApiAvailable()) {
-            return cleanForScoreboard(Configuration.MESSAGES.PHOENIX_NOT_AVAILABLE);
-        }
-
-        if (!hasMinimumArgs(args, MIN_ARGS)) {
-            return null;
-        }
+import lombok.experimental.UtilityClass;
 
-        String command = args.get(COMMAND_INDEX).toLowerCase();
-
-        return switch (command) {
-            case STATUS_COMMAND -> handleStatusPlaceholder(tracker, player);
-            case EXPIRATION_COMMAND -> handleExpirationPlaceholder(tracker, player);
-            default -> null;
-        };
-    }
-
-    private String handleStatusPlaceholder(PhoenixTracker tracker, OfflinePlayer player) {
-        if (!(player instanceof Player onlinePlayer)) {
-            return cleanForScoreboard(Configuration.PHOENIX.DEFAULT_STATUS);
-        }
-
-        return getPlayerProfile(tracker, player)
-                .map(profile -> buildStatusString(profile, onlinePlayer))
-                .orElse(cleanForScoreboard(Configuration.PHOENIX.DEFAULT_STATUS));
-    }
-
-    private String handleExpirationPlaceholder(PhoenixTracker tracker, OfflinePlayer player) {
-        if (!(player instanceof Player)) {
-            return cleanForScoreboard(Configuration.PHOENIX.PERMANENT_RANK);
-        }
-
-        return getPlayerProfile(tracker, player)
-                .flatMap(this::getBestGrant)
-                .map(this::formatGrantExpiration)
-                .orElse(cleanForScoreboard(Configuration.PHOENIX.PERMANENT_RANK));
-    }
-
-    private Optional<IProfile> getPlayerProfile(PhoenixTracker tracker, OfflinePlayer player) {
-        try {
-            IProfile profile = tracker.getApi()
-                    .getProfileHandler()
-                    .getProfile(player.getUniqueId());
-            return Optional.ofNullable(profile);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
-    }
-
-    private Optional<IGrant> getBestGrant(IProfile profile) {
-        try {
-            IGrant grant = profile.getBestGrant();
-            return Optional.ofNullable(grant);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
-    }
-
-    private String formatGrantExpiration(IGrant grant) {
-        long remainingMs = grant.getRemainingDuration();
-
-        if (isPermanentGrant(remainingMs)) {
-            return cleanForScoreboard(Configuration.PHOENIX.PERMANENT_RANK);
-        }
-
-        if (remainingMs <= 0) {
-            return cleanForScoreboard(Configuration.PHOENIX.PERMANENT_RANK);
-        }
-
-        return formatDuration(remainingMs);
-    }
-
-    private boolean isPermanentGrant(long remainingMs) {
-        return remainingMs == -1 ||
-                remainingMs == Long.MAX_VALUE ||
-                remainingMs <= 0 ||
-                remainingMs > TimeUnit.DAYS.toMillis(36500);
-    }
-
-    private String buildStatusString(IProfile profile, Player player) {
-        PlayerStatus status = determinePlayerStatus(profile, player);
-
-        if (!status.hasAnyStatus()) {
-            return cleanForScoreboard(Configuration.PHOENIX.DEFAULT_STATUS);
-        }
+import java.util.concurrent.TimeUnit;
 
-        return buildPrefixString(status);
-    }
+/**
+ * Cascading duration formatter shared by rank expiration and countdowns
+ * Disabled units cascade into the next enabled unit, see PHOENIX.RANK_EXPIRY
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+public class DurationFormatter {
 
-    private PlayerStatus determinePlayerStatus(IProfile profile, Player player) {
-        boolean isVanished = isPlayerVanished(profile);
-        boolean isModMode = isPlayerInModMode(player);
-        return new PlayerStatus(isVanished, isModMode);
-    }
-
-    private boolean isPlayerVanished(IProfile profile) {
-        try {
-            return profile.isVanished();
-        } catch (Exception e) {
-            return false;
-        }
+    /**
+     * Formats a duration with the configured units and labels
+     *
+     * @param durationMs the duration in milliseconds
+     * @return the formatted duration, or NO_TIME_REMAINING if no unit applies
+     */
+    public String format(long durationMs) {
+        return buildDurationString(calculateDuration(durationMs));
     }
 
-    private boolean isPlayerInModMode(Player player) {
-        try {
-            return BukkitAPI.isInModMode(player);
-        } catch (Exception e) {
-            return false;
+    /**
+     * Gets the length of the smallest displayed unit
+     * A formatted duration can only change when this many milliseconds pass
+     *
+     * @return the smallest enabled unit in milliseconds
+     */
+    public long getSmallestUnitMillis() {
+        if (Configuration.PHOENIX.RANK_EXPIRY.SECONDS) {
+            return TimeUnit.SECONDS.toMillis(1);
         }
-    }
 
-    private String buildPrefixString(PlayerStatus status) {
-        StringBuilder builder = new StringBuilder();
-
-        if (status.isVanished()) {
-            builder.append(cleanForScoreboard(Configuration.PHOENIX.VANISHED_PREFIX));
+        if (Configuration.PHOENIX.RANK_EXPIRY.MINUTES) {
+            return TimeUnit.MINUTES.toMillis(1);
         }
 
-        if (status.isModMode()) {
-            builder.append(cleanForScoreboard(Configuration.PHOENIX.MOD_MODE_PREFIX));
+        if (Configuration.PHOENIX.RANK_EXPIRY.HOUR) {
+            return TimeUnit.HOURS.toMillis(1);
         }
 
-        return builder.toString();
-    }
-
-    private String formatDuration(long durationMs) {
-        DurationComponents components = calculateDuration(durationMs);
-        String result = buildDurationString(components);
-
-        // Scoreboard uyumluluğu için temizle
-        result = cleanForScoreboard(result);
-
-        return result.isEmpty() ?
-                cleanForScoreboard(Configuration.PHOENIX.NO_TIME_REMAINING) :
-                result;
+        return TimeUnit.DAYS.toMillis(1);
     }
 
     private DurationComponents calculateDuration(long durationMs) {
@@ -296,30 +182,6 @@ public final class PhoenixPlaceholderHandler implements PlaceholderHandler {
         return finalResult.isEmpty() ? Configuration.PHOENIX.NO_TIME_REMAINING : finalResult;
     }
 
-    /**
-     * Scoreboard'da görüntülenebilmesi için metni temizler
-     * MiniMessage formatını legacy color codes'a çevirir ve gereksiz karakterleri kaldırır
-     */
-    private String cleanForScoreboard(String text) {
-        if (text == null) return "";
-
-        // MiniMessage hex formatını kaldır
-        text = text.replaceAll("<#[A-Fa-f0-9]{6}>", "");
-        text = text.replaceAll("</gradient>", "");
-        text = text.replaceAll("<gradient:#[A-Fa-f0-9]{6}:#[A-Fa-f0-9]{6}>", "");
-
-        // Legacy color codes korunsun, sadece temizle
-        text = text.replace("&", "§");
-
-        return text.trim();
-    }
-
-    private record PlayerStatus(boolean isVanished, boolean isModMode) {
-        boolean hasAnyStatus() {
-            return isVanished || isModMode;
-        }
-    }
-
     private record DurationComponents(
             long years,
             long months,
@@ -328,4 +190,4 @@ public final class PhoenixPlaceholderHandler implements PlaceholderHandler {
             long minutes,
             long seconds
     ) {}
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package dev.shedux.extraplaceholders.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+/**
+ * Releases memory-mapped files without waiting for the garbage collector
+ * Needed before a mapped file is moved or replaced, which some platforms refuse while it is mapped
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+public class MappedBuffers {
+
+    private static final MethodHandle INVOKE_CLEANER = resolveInvokeCleaner();
+
+    /**
+     * Unmaps a buffer right away
+     * The buffer must never be accessed again; doing so crashes the JVM
+     *
+     * @param buffer the mapped buffer to release
+     * @return false if this JVM offers no way to unmap, leaving it to the garbage collector
+     */
+    public boolean unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return false;
+        }
+
+        try {
+            INVOKE_CLEANER.invoke(buffer);
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle resolveInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+
+            return MethodHandles.lookup()
+                    .unreflect(unsafeClass.getMethod("invokeCleaner", ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (Exception | LinkageError ignored) {
+            // No sun.misc.Unsafe - mappings are released by the garbage collector
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dev.shedux.extraplaceholders.util;
 
+import dev.shedux.extraplaceholders.jfr.ColorizeEvent;
 import lombok.experimental.UtilityClass;
 import net.j4c0b3y.api.config.message.Message;
 import org.bukkit.ChatColor;
@@ -41,12 +42,18 @@ public final class MessageUtil {
             return text;
         }
 
+        ColorizeEvent event = new ColorizeEvent();
+        event.begin();
+        int length = text.length();
+
         if (HEX_SUPPORTED) {
             text = applyGradients(text);
             text = applyHexColors(text);
         }
 
-        return applyLegacyColors(text);
+        String result = applyLegacyColors(text);
+        event.commit(length);
+        return result;
     }
 
     /**
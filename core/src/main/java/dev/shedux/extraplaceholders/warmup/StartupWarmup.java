@@ -0,0 +1,81 @@
+package dev.shedux.extraplaceholders.warmup;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.handler.PlaceholderHandler;
+import dev.shedux.extraplaceholders.util.MessageUtil;
+import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Background warmup pass run after startup and reload
+ * Loads locale data, colour patterns and handler classes and lets the JIT settle
+ * before players start requesting placeholders
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+@UtilityClass
+public class StartupWarmup {
+
+    /**
+     * Starts the warmup on an async task
+     *
+     * @param plugin the owning plugin
+     * @param handlers the handlers to warm up
+     * @param onComplete called on the async thread with the warmup duration in milliseconds
+     */
+    public void start(Plugin plugin, Collection<PlaceholderHandler> handlers, LongConsumer onComplete) {
+        List<PlaceholderHandler> snapshot = List.copyOf(handlers);
+        int iterations = Math.max(1, Configuration.WARMUP.ITERATIONS);
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            long start = System.nanoTime();
+
+            warmupMessages();
+            warmupHandlers(snapshot, iterations);
+
+            onComplete.accept((System.nanoTime() - start) / 1_000_000L);
+        });
+    }
+
+    private void warmupMessages() {
+        for (Field field : Configuration.MESSAGES.class.getFields()) {
+            if (field.getType() != String.class || !Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+
+            try {
+                MessageUtil.colorize((String) field.get(null));
+            } catch (IllegalAccessException ignored) {
+                // Public static field, not reachable
+            }
+        }
+    }
+
+    private void warmupHandlers(List<PlaceholderHandler> handlers, int iterations) {
+        List<PlaceholderHandler> remaining = new ArrayList<>(handlers);
+
+        for (int i = 0; i < iterations && !remaining.isEmpty(); i++) {
+            remaining.removeIf(StartupWarmup::failsWarmup);
+        }
+    }
+
+    private boolean failsWarmup(PlaceholderHandler handler) {
+        try {
+            handler.warmup();
+            return false;
+        } catch (Exception e) {
+            Bukkit.getLogger().warning("[ExtraPlaceholders] Warmup of " + handler.getHandlerType()
+                    + " handler failed: " + e.getMessage());
+            return true;
+        }
+    }
+}
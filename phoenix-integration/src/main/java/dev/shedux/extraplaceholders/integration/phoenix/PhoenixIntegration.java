@@ -0,0 +1,39 @@
+package dev.shedux.extraplaceholders.integration.phoenix;
+
+import dev.shedux.extraplaceholders.api.PluginDependency;
+import dev.shedux.extraplaceholders.clock.ServerClock;
+import dev.shedux.extraplaceholders.handler.PlaceholderHandler;
+import dev.shedux.extraplaceholders.integration.Integration;
+import org.bukkit.plugin.Plugin;
+
+import java.util.List;
+
+/**
+ * Phoenix integration entry point registered through ServiceLoader
+ * Contributes the phoenix_* placeholders when Phoenix is enabled
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class PhoenixIntegration implements Integration {
+
+    private static final String PLUGIN_NAME = "Phoenix";
+
+    private PhoenixTracker tracker;
+
+    @Override
+    public String getPluginName() {
+        return PLUGIN_NAME;
+    }
+
+    @Override
+    public PluginDependency enable(Plugin plugin) {
+        tracker = new PhoenixTracker();
+        return tracker;
+    }
+
+    @Override
+    public List<PlaceholderHandler> createHandlers(ServerClock clock) {
+        return List.of(new PhoenixPlaceholderHandler(tracker));
+    }
+}
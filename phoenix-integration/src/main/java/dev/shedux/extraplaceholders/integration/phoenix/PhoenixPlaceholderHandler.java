@@ -0,0 +1,233 @@
+package dev.shedux.extraplaceholders.integration.phoenix;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.handler.PlaceholderHandler;
+import dev.shedux.extraplaceholders.handler.ResolveContext;
+import dev.shedux.extraplaceholders.jfr.DependencyCallEvent;
+import dev.shedux.extraplaceholders.util.DurationFormatter;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import xyz.refinedev.phoenix.BukkitAPI;
+import xyz.refinedev.phoenix.Phoenix;
+import xyz.refinedev.phoenix.profile.IProfile;
+import xyz.refinedev.phoenix.profile.grant.IGrant;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public final class PhoenixPlaceholderHandler implements PlaceholderHandler {
+
+    private static final String STATUS_COMMAND = "status";
+    private static final String EXPIRATION_COMMAND = "expiration";
+    private static final String PROFILE_LOOKUP = "phoenix_profile";
+    private static final String DEPENDENCY_NAME = "Phoenix";
+    private static final int MIN_ARGS = 2;
+    private static final int COMMAND_INDEX = 1;
+    private static final long WARMUP_DURATION_MS = TimeUnit.DAYS.toMillis(3) + TimeUnit.HOURS.toMillis(5)
+            + TimeUnit.MINUTES.toMillis(7);
+    private static final List<List<String>> WARMUP_ARGS = List.of(
+            List.of("phoenix", STATUS_COMMAND),
+            List.of("phoenix", EXPIRATION_COMMAND)
+    );
+
+    private final PhoenixTracker tracker;
+
+    /**
+     * Creates the Phoenix handler bound to its dependency tracker
+     *
+     * @param tracker the Phoenix tracker
+     */
+    public PhoenixPlaceholderHandler(PhoenixTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public String handle(OfflinePlayer player, List<String> args) {
+        Phoenix api = tracker.getApi();
+        if (api == null) {
+            return cleanForScoreboard(Configuration.MESSAGES.PHOENIX_NOT_AVAILABLE);
+        }
+
+        if (!hasMinimumArgs(args, MIN_ARGS)) {
+            return null;
+        }
+
+        String command = args.get(COMMAND_INDEX).toLowerCase();
+
+        return switch (command) {
+            case STATUS_COMMAND -> handleStatusPlaceholder(api, player);
+            case EXPIRATION_COMMAND -> handleExpirationPlaceholder(api, player);
+            default -> null;
+        };
+    }
+
+    @Override
+    public boolean accepts(List<String> args) {
+        if (!hasMinimumArgs(args, MIN_ARGS)) {
+            return false;
+        }
+
+        String command = args.get(COMMAND_INDEX).toLowerCase();
+        return STATUS_COMMAND.equals(command) || EXPIRATION_COMMAND.equals(command);
+    }
+
+    @Override
+    public boolean isSheddable() {
+        return true;
+    }
+
+    @Override
+    public void warmup() {
+        formatDuration(WARMUP_DURATION_MS);
+
+        // Without a player both paths return before calling into Phoenix
+        for (List<String> args : WARMUP_ARGS) {
+            handle(null, args);
+        }
+    }
+
+    private String handleStatusPlaceholder(Phoenix api, OfflinePlayer player) {
+        if (!(player instanceof Player onlinePlayer)) {
+            return cleanForScoreboard(Configuration.PHOENIX.DEFAULT_STATUS);
+        }
+
+        return getPlayerProfile(api, player)
+                .map(profile -> buildStatusString(profile, onlinePlayer))
+                .orElse(cleanForScoreboard(Configuration.PHOENIX.DEFAULT_STATUS));
+    }
+
+    private String handleExpirationPlaceholder(Phoenix api, OfflinePlayer player) {
+        if (!(player instanceof Player)) {
+            return cleanForScoreboard(Configuration.PHOENIX.PERMANENT_RANK);
+        }
+
+        return getPlayerProfile(api, player)
+                .flatMap(this::getBestGrant)
+                .map(this::formatGrantExpiration)
+                .orElse(cleanForScoreboard(Configuration.PHOENIX.PERMANENT_RANK));
+    }
+
+    private Optional<IProfile> getPlayerProfile(Phoenix api, OfflinePlayer player) {
+        try {
+            IProfile profile = ResolveContext.lookup(PROFILE_LOOKUP, player.getUniqueId(),
+                    () -> DependencyCallEvent.record(DEPENDENCY_NAME, "getProfile", player.getUniqueId(),
+                            api, player.getUniqueId(), (phoenix, playerId) -> phoenix.getProfileHandler().getProfile(playerId)));
+            return Optional.ofNullable(profile);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<IGrant> getBestGrant(IProfile profile) {
+        try {
+            IGrant grant = DependencyCallEvent.record(DEPENDENCY_NAME, "getBestGrant", null, profile, IProfile::getBestGrant);
+            return Optional.ofNullable(grant);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private String formatGrantExpiration(IGrant grant) {
+        long remainingMs = grant.getRemainingDuration();
+
+        if (isPermanentGrant(remainingMs)) {
+            return cleanForScoreboard(Configuration.PHOENIX.PERMANENT_RANK);
+        }
+
+        if (remainingMs <= 0) {
+            return cleanForScoreboard(Configuration.PHOENIX.PERMANENT_RANK);
+        }
+
+        return formatDuration(remainingMs);
+    }
+
+    private boolean isPermanentGrant(long remainingMs) {
+        return remainingMs == -1 ||
+                remainingMs == Long.MAX_VALUE ||
+                remainingMs <= 0 ||
+                remainingMs > TimeUnit.DAYS.toMillis(36500);
+    }
+
+    private String buildStatusString(IProfile profile, Player player) {
+        PlayerStatus status = determinePlayerStatus(profile, player);
+
+        if (!status.hasAnyStatus()) {
+            return cleanForScoreboard(Configuration.PHOENIX.DEFAULT_STATUS);
+        }
+
+        return buildPrefixString(status);
+    }
+
+    private PlayerStatus determinePlayerStatus(IProfile profile, Player player) {
+        boolean isVanished = isPlayerVanished(profile);
+        boolean isModMode = isPlayerInModMode(player);
+        return new PlayerStatus(isVanished, isModMode);
+    }
+
+    private boolean isPlayerVanished(IProfile profile) {
+        try {
+            return DependencyCallEvent.record(DEPENDENCY_NAME, "isVanished", null, profile, IProfile::isVanished);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isPlayerInModMode(Player player) {
+        try {
+            return DependencyCallEvent.record(DEPENDENCY_NAME, "isInModMode", player.getUniqueId(),
+                    player, BukkitAPI::isInModMode);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private String buildPrefixString(PlayerStatus status) {
+        StringBuilder builder = new StringBuilder();
+
+        if (status.isVanished()) {
+            builder.append(cleanForScoreboard(Configuration.PHOENIX.VANISHED_PREFIX));
+        }
+
+        if (status.isModMode()) {
+            builder.append(cleanForScoreboard(Configuration.PHOENIX.MOD_MODE_PREFIX));
+        }
+
+        return builder.toString();
+    }
+
+    private String formatDuration(long durationMs) {
+        String result = DurationFormatter.format(durationMs);
+
+        // Scoreboard uyumluluğu için temizle
+        result = cleanForScoreboard(result);
+
+        return result.isEmpty() ?
+                cleanForScoreboard(Configuration.PHOENIX.NO_TIME_REMAINING) :
+                result;
+    }
+
+    /**
+     * Scoreboard'da görüntülenebilmesi için metni temizler
+     * MiniMessage formatını legacy color codes'a çevirir ve gereksiz karakterleri kaldırır
+     */
+    private String cleanForScoreboard(String text) {
+        if (text == null) return "";
+
+        // MiniMessage hex formatını kaldır
+        text = text.replaceAll("<#[A-Fa-f0-9]{6}>", "");
+        text = text.replaceAll("</gradient>", "");
+        text = text.replaceAll("<gradient:#[A-Fa-f0-9]{6}:#[A-Fa-f0-9]{6}>", "");
+
+        // Legacy color codes korunsun, sadece temizle
+        text = text.replace("&", "§");
+
+        return text.trim();
+    }
+
+    private record PlayerStatus(boolean isVanished, boolean isModMode) {
+        boolean hasAnyStatus() {
+            return isVanished || isModMode;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package dev.shedux.extraplaceholders.integration.phoenix;
+
+import dev.shedux.extraplaceholders.integration.DependencyTracker;
+import xyz.refinedev.phoenix.CommonPlatform;
+import xyz.refinedev.phoenix.Phoenix;
+import xyz.refinedev.phoenix.PlatformGetter;
+
+/**
+ * Tracker for Phoenix plugin dependency
+ * Rebinds the Phoenix API and platform whenever Phoenix enables or disables
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class PhoenixTracker extends DependencyTracker<Phoenix> {
+
+    private static final String DEPENDENCY_NAME = "Phoenix";
+
+    private volatile CommonPlatform commonPlatform;
+
+    /**
+     * Initializes the Phoenix tracker with safe API access
+     * Handles missing dependencies gracefully without throwing exceptions
+     */
+    public PhoenixTracker() {
+        super(DEPENDENCY_NAME);
+    }
+
+    /**
+     * Gets the currently bound Phoenix platform
+     *
+     * @return the platform, or null if not available
+     */
+    public CommonPlatform getCommonPlatform() {
+        return commonPlatform;
+    }
+
+    @Override
+    protected Phoenix probe() {
+        return Phoenix.INSTANCE;
+    }
+
+    @Override
+    public void refresh() {
+        super.refresh();
+
+        try {
+            commonPlatform = PlatformGetter.getInstance();
+        } catch (Exception | LinkageError ignored) {
+            commonPlatform = null;
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        commonPlatform = null;
+    }
+}
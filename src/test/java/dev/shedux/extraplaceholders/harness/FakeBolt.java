@@ -0,0 +1,133 @@
+package dev.shedux.extraplaceholders.harness;
+
+import org.bukkit.entity.Player;
+import xyz.refinedev.practice.api.BoltAPI;
+import xyz.refinedev.practice.api.kit.IKit;
+import xyz.refinedev.practice.api.match.IMatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * In-memory Bolt API with every player in a running match
+ * Players are grouped into solo, team and FFA matches in turn, so all match placeholders see traffic
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakeBolt {
+
+    private static final List<FakeKit> DEFAULT_KITS = List.of(
+            new FakeKit("NoDebuff", Set.of("enabled", "ranked", "showhp", "pearlcooldown")),
+            new FakeKit("BuildUHC", Set.of("enabled", "ranked", "build", "showhp")),
+            new FakeKit("Sumo", Set.of("enabled", "sumo", "nofall", "nohunger", "noregen")),
+            new FakeKit("Bridges", Set.of("enabled", "build", "bridges", "respawnmode", "voidspawn")),
+            new FakeKit("Boxing", Set.of("enabled", "boxing", "nodrop", "nohunger"))
+    );
+
+    private static final int SOLO_SIZE = 2;
+    private static final int TEAM_SIZE = 4;
+    private static final int FFA_SIZE = 6;
+
+    private final Map<String, FakeKit> kitsByName = new LinkedHashMap<>();
+    private final Map<Player, FakeMatch> matchesByPlayer = new HashMap<>();
+    private final List<FakeMatch> matches = new ArrayList<>();
+    private final MatchRegistry matchApi = new MatchRegistry();
+    private final KitRegistry kitApi = new KitRegistry();
+    private final BoltAPI api;
+
+    /**
+     * Creates a new fake Bolt with the default kits
+     *
+     * @param players the players to put into matches
+     * @param random the random source driving the matches
+     */
+    public FakeBolt(List<FakePlayer> players, Random random) {
+        DEFAULT_KITS.forEach(kit -> kitsByName.put(kit.getName().toLowerCase(Locale.ROOT), kit));
+        this.api = FakeProxy.of(BoltAPI.class, this);
+
+        FakeMatch.Type[] types = FakeMatch.Type.values();
+        int next = 0;
+
+        for (int round = 0; next < players.size(); round++) {
+            FakeMatch.Type type = types[round % types.length];
+            int size = Math.min(sizeOf(type), players.size() - next);
+
+            // A lone leftover player still gets a match so every player resolves the same way
+            FakeMatch match = new FakeMatch(size < SOLO_SIZE ? FakeMatch.Type.SOLO : type,
+                    players.subList(next, next + size), DEFAULT_KITS, random);
+            matches.add(match);
+            match.getPlayers().forEach(player -> matchesByPlayer.put(player, match));
+            next += size;
+        }
+    }
+
+    private static int sizeOf(FakeMatch.Type type) {
+        return switch (type) {
+            case SOLO -> SOLO_SIZE;
+            case TEAM -> TEAM_SIZE;
+            case FFA -> FFA_SIZE;
+        };
+    }
+
+    public Object getMatchAPI() {
+        return matchApi;
+    }
+
+    public Object getKitAPI() {
+        return kitApi;
+    }
+
+    /**
+     * Advances every match by one tick
+     */
+    public void tick() {
+        matches.forEach(FakeMatch::tick);
+    }
+
+    /**
+     * Gets the Bolt API fake
+     *
+     * @return the fake
+     */
+    public BoltAPI asApi() {
+        return api;
+    }
+
+    /**
+     * Gets the kits matches rotate through
+     *
+     * @return the kit names
+     */
+    public List<String> getKitNames() {
+        return DEFAULT_KITS.stream().map(FakeKit::getName).toList();
+    }
+
+    /**
+     * Backing object of the match API fake
+     */
+    public final class MatchRegistry {
+
+        public IMatch getMatchByPlayer(Player player) {
+            FakeMatch match = matchesByPlayer.get(player);
+            return match == null ? null : match.asMatch();
+        }
+    }
+
+    /**
+     * Backing object of the kit API fake
+     */
+    public final class KitRegistry {
+
+        public IKit getKit(String name) {
+            FakeKit kit = kitsByName.get(name.toLowerCase(Locale.ROOT));
+            return kit == null ? null : kit.asKit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package dev.shedux.extraplaceholders.harness;
+
+import xyz.refinedev.practice.api.kit.IKit;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * In-memory Bolt kit
+ * Every is*() rule flag is answered from the rule set, so new Bolt rules need no code here
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakeKit implements FakeProxy.Answering {
+
+    private static final String RULE_GETTER_PREFIX = "is";
+
+    private final String name;
+    private final Set<String> rules;
+    private final IKit kit;
+
+    /**
+     * Creates a new fake kit
+     *
+     * @param name the kit name
+     * @param rules the enabled rules in lower case, e.g. "sumo"
+     */
+    public FakeKit(String name, Set<String> rules) {
+        this.name = name;
+        this.rules = Set.copyOf(rules);
+        this.kit = FakeProxy.of(IKit.class, this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object answer(Method method, Object[] args) {
+        String methodName = method.getName();
+
+        if (method.getReturnType() != boolean.class || method.getParameterCount() != 0
+                || !methodName.startsWith(RULE_GETTER_PREFIX)) {
+            return FakeProxy.NO_ANSWER;
+        }
+
+        return rules.contains(methodName.substring(RULE_GETTER_PREFIX.length()).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Gets the kit fake
+     *
+     * @return the fake
+     */
+    public IKit asKit() {
+        return kit;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,171 @@
+package dev.shedux.extraplaceholders.harness;
+
+import org.bukkit.entity.Player;
+import xyz.refinedev.practice.api.kit.IKit;
+import xyz.refinedev.practice.api.match.IMatch;
+import xyz.refinedev.practice.api.match.MatchState;
+import xyz.refinedev.practice.api.match.meta.IMatchPlayer;
+import xyz.refinedev.practice.api.match.meta.IMatchTeam;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * In-memory Bolt match that plays itself out
+ * While playing, participants score and die at random until one side is left. The match then
+ * stays ending for a few seconds, so winner and loser placeholders resolve, and restarts with the next kit
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakeMatch {
+
+    private static final double SCORE_CHANCE = 0.05;
+    private static final double DEATH_CHANCE = 0.002;
+    private static final int ENDING_TICKS = 60;
+    private static final int TEAM_COUNT = 2;
+
+    private final Type type;
+    private final List<FakeKit> kits;
+    private final Random random;
+    private final List<Player> players;
+    private final List<FakeMatchPlayer> participants = new ArrayList<>();
+    private final Map<Player, FakeMatchPlayer> participantsByPlayer = new HashMap<>();
+    private final Map<Player, FakeMatchTeam> teamsByPlayer = new HashMap<>();
+    private final List<FakeMatchTeam> teams = new ArrayList<>();
+    private final IMatch match;
+
+    private FakeKit kit;
+    private MatchState state = MatchState.PLAYING;
+    private int endingTicks;
+
+    /**
+     * Creates a new fake match and starts it with a random kit
+     *
+     * @param type the match type
+     * @param players the participants, split into two teams for team matches
+     * @param kits the kits matches rotate through
+     * @param random the random source driving the match
+     */
+    public FakeMatch(Type type, List<FakePlayer> players, List<FakeKit> kits, Random random) {
+        this.type = type;
+        this.kits = kits;
+        this.random = random;
+        this.players = players.stream().map(FakePlayer::getPlayer).toList();
+        this.kit = kits.get(random.nextInt(kits.size()));
+        this.match = FakeProxy.of(IMatch.class, this);
+
+        for (Player player : this.players) {
+            FakeMatchPlayer participant = new FakeMatchPlayer(player);
+            participants.add(participant);
+            participantsByPlayer.put(player, participant);
+        }
+
+        if (type == Type.TEAM) {
+            int half = (participants.size() + 1) / TEAM_COUNT;
+            teams.add(new FakeMatchTeam(participants.subList(0, half)));
+            teams.add(new FakeMatchTeam(participants.subList(half, participants.size())));
+            teams.forEach(team -> team.getPlayers().forEach(player -> teamsByPlayer.put(player, team)));
+        }
+    }
+
+    public IKit getKit() {
+        return kit.asKit();
+    }
+
+    public MatchState getState() {
+        return state;
+    }
+
+    public boolean isSoloMatch() {
+        return type == Type.SOLO;
+    }
+
+    public boolean isTeamMatch() {
+        return type == Type.TEAM;
+    }
+
+    public boolean isFFAMatch() {
+        return type == Type.FFA;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public IMatchPlayer getMatchPlayer(Player player) {
+        FakeMatchPlayer participant = participantsByPlayer.get(player);
+        return participant == null ? null : participant.asMatchPlayer();
+    }
+
+    public IMatchTeam getMatchTeam(Player player) {
+        FakeMatchTeam team = teamsByPlayer.get(player);
+        return team == null ? null : team.asTeam();
+    }
+
+    /**
+     * Advances the match by one tick
+     */
+    public void tick() {
+        if (state == MatchState.ENDING) {
+            if (--endingTicks <= 0) {
+                restart();
+            }
+            return;
+        }
+
+        for (FakeMatchPlayer participant : participants) {
+            if (!participant.isAlive()) {
+                continue;
+            }
+
+            if (random.nextDouble() < SCORE_CHANCE) {
+                participant.score();
+            }
+
+            if (random.nextDouble() < DEATH_CHANCE) {
+                participant.kill();
+            }
+        }
+
+        if (isDecided()) {
+            state = MatchState.ENDING;
+            endingTicks = ENDING_TICKS;
+        }
+    }
+
+    private boolean isDecided() {
+        if (type == Type.TEAM) {
+            return teams.stream().anyMatch(team -> team.getAliveCount() == 0);
+        }
+
+        return participants.stream().filter(FakeMatchPlayer::isAlive).count() <= 1;
+    }
+
+    private void restart() {
+        participants.forEach(FakeMatchPlayer::reset);
+        kit = kits.get(random.nextInt(kits.size()));
+        state = MatchState.PLAYING;
+    }
+
+    IMatch asMatch() {
+        return match;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + kit + " " + players;
+    }
+
+    /**
+     * Bolt match types
+     */
+    public enum Type {
+        SOLO,
+        TEAM,
+        FFA
+    }
+}
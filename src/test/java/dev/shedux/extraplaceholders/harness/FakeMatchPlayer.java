@@ -0,0 +1,63 @@
+package dev.shedux.extraplaceholders.harness;
+
+import org.bukkit.entity.Player;
+import xyz.refinedev.practice.api.match.meta.IMatchPlayer;
+
+/**
+ * In-memory Bolt match participant
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakeMatchPlayer {
+
+    private final Player player;
+    private final IMatchPlayer matchPlayer;
+
+    private boolean alive = true;
+    private int points;
+
+    /**
+     * Creates a new fake match participant
+     *
+     * @param player the participating player
+     */
+    public FakeMatchPlayer(Player player) {
+        this.player = player;
+        this.matchPlayer = FakeProxy.of(IMatchPlayer.class, this);
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public boolean isAlive() {
+        return alive;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    void kill() {
+        alive = false;
+    }
+
+    void score() {
+        points++;
+    }
+
+    void reset() {
+        alive = true;
+        points = 0;
+    }
+
+    IMatchPlayer asMatchPlayer() {
+        return matchPlayer;
+    }
+
+    @Override
+    public String toString() {
+        return player.getName();
+    }
+}
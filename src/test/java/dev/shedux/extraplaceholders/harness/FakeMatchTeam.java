@@ -0,0 +1,51 @@
+package dev.shedux.extraplaceholders.harness;
+
+import org.bukkit.entity.Player;
+import xyz.refinedev.practice.api.match.meta.IMatchTeam;
+
+import java.util.List;
+
+/**
+ * In-memory Bolt match team
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakeMatchTeam {
+
+    private final List<FakeMatchPlayer> members;
+    private final List<Player> players;
+    private final IMatchTeam team;
+
+    /**
+     * Creates a new fake team
+     *
+     * @param members the team members
+     */
+    public FakeMatchTeam(List<FakeMatchPlayer> members) {
+        this.members = List.copyOf(members);
+        this.players = members.stream().map(FakeMatchPlayer::getPlayer).toList();
+        this.team = FakeProxy.of(IMatchTeam.class, this);
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public int getAliveCount() {
+        return (int) members.stream().filter(FakeMatchPlayer::isAlive).count();
+    }
+
+    public int getPoints() {
+        return members.stream().mapToInt(FakeMatchPlayer::getPoints).sum();
+    }
+
+    IMatchTeam asTeam() {
+        return team;
+    }
+
+    @Override
+    public String toString() {
+        return players.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package dev.shedux.extraplaceholders.harness;
+
+import xyz.refinedev.phoenix.Phoenix;
+import xyz.refinedev.phoenix.profile.IProfile;
+import xyz.refinedev.phoenix.profile.grant.IGrant;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory Phoenix API with a profile per player
+ * A share of the players is vanished and grants range from permanent to a few days
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakePhoenix {
+
+    private static final double VANISHED_SHARE = 0.1;
+    private static final double PERMANENT_SHARE = 0.5;
+    private static final long PERMANENT = -1L;
+    private static final long MAX_GRANT_MILLIS = TimeUnit.DAYS.toMillis(3);
+
+    private final Map<UUID, IProfile> profiles = new HashMap<>();
+    private final ProfileRegistry profileHandler = new ProfileRegistry();
+    private final Phoenix api;
+
+    /**
+     * Creates a new fake Phoenix
+     *
+     * @param players the players to create profiles for
+     * @param random the random source for vanish and grant state
+     */
+    public FakePhoenix(List<FakePlayer> players, Random random) {
+        this.api = FakeProxy.of(Phoenix.class, this);
+
+        for (FakePlayer player : players) {
+            long remaining = random.nextDouble() < PERMANENT_SHARE
+                    ? PERMANENT
+                    : 1 + (long) (random.nextDouble() * MAX_GRANT_MILLIS);
+            IGrant grant = FakeProxy.of(IGrant.class, new Grant(remaining));
+            Profile profile = new Profile(random.nextDouble() < VANISHED_SHARE, grant);
+            profiles.put(player.getUniqueId(), FakeProxy.of(IProfile.class, profile));
+        }
+    }
+
+    public Object getProfileHandler() {
+        return profileHandler;
+    }
+
+    /**
+     * Gets the Phoenix API fake
+     *
+     * @return the fake
+     */
+    public Phoenix asApi() {
+        return api;
+    }
+
+    /**
+     * Backing object of the profile handler fake
+     */
+    public final class ProfileRegistry {
+
+        public IProfile getProfile(UUID uniqueId) {
+            return profiles.get(uniqueId);
+        }
+    }
+
+    /**
+     * Backing object of the profile fakes
+     */
+    public static final class Profile {
+
+        private final boolean vanished;
+        private final IGrant bestGrant;
+
+        private Profile(boolean vanished, IGrant bestGrant) {
+            this.vanished = vanished;
+            this.bestGrant = bestGrant;
+        }
+
+        public boolean isVanished() {
+            return vanished;
+        }
+
+        public IGrant getBestGrant() {
+            return bestGrant;
+        }
+    }
+
+    /**
+     * Backing object of the grant fakes
+     */
+    public static final class Grant {
+
+        private final long remainingDuration;
+
+        private Grant(long remainingDuration) {
+            this.remainingDuration = remainingDuration;
+        }
+
+        public long getRemainingDuration() {
+            return remainingDuration;
+        }
+    }
+}
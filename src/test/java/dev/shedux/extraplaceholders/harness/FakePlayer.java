@@ -0,0 +1,72 @@
+package dev.shedux.extraplaceholders.harness;
+
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * In-memory online player
+ * The same {@link Player} fake is handed out every time, so identity checks in the handlers hold
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakePlayer {
+
+    private static final String CLIENT_LOCALE = "en_us";
+
+    private final UUID uniqueId;
+    private final String name;
+    private final Player player;
+    private final Player.Spigot spigot = new Player.Spigot() {
+        @Override
+        public String getLocale() {
+            return CLIENT_LOCALE;
+        }
+    };
+
+    /**
+     * Creates a new fake player
+     *
+     * @param uniqueId the player id
+     * @param name the player name
+     */
+    public FakePlayer(UUID uniqueId, String name) {
+        this.uniqueId = uniqueId;
+        this.name = name;
+        this.player = FakeProxy.of(Player.class, this);
+    }
+
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDisplayName() {
+        return name;
+    }
+
+    public boolean isOnline() {
+        return true;
+    }
+
+    public boolean hasPermission(String permission) {
+        return true;
+    }
+
+    public Player.Spigot spigot() {
+        return spigot;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
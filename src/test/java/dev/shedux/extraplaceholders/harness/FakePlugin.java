@@ -0,0 +1,61 @@
+package dev.shedux.extraplaceholders.harness;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.util.logging.Logger;
+
+/**
+ * In-memory installed plugin, used for ExtraPlaceholders itself and for the faked dependencies
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakePlugin {
+
+    private final String name;
+    private final File dataFolder;
+    private final Plugin plugin;
+
+    /**
+     * Creates a new fake plugin
+     *
+     * @param name the plugin name
+     * @param dataFolder the plugin folder
+     */
+    public FakePlugin(String name, File dataFolder) {
+        this.name = name;
+        this.dataFolder = dataFolder;
+        this.plugin = FakeProxy.of(Plugin.class, this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public File getDataFolder() {
+        return dataFolder;
+    }
+
+    public Logger getLogger() {
+        return Logger.getLogger(name);
+    }
+
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Gets the plugin fake
+     *
+     * @return the fake
+     */
+    public Plugin asPlugin() {
+        return plugin;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
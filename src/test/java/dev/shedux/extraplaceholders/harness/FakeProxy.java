@@ -0,0 +1,178 @@
+package dev.shedux.extraplaceholders.harness;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds interface fakes backed by plain objects
+ * Calls are forwarded to the backing object's public method with the same name and parameters,
+ * then to {@link Answering#answer} if it implements it, and otherwise answer an empty default.
+ * Only the methods the handlers actually call need implementing, whatever else the real API declares
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakeProxy {
+
+    /**
+     * Returned by {@link Answering#answer} to fall through to the empty default
+     */
+    public static final Object NO_ANSWER = new Object();
+
+    private static final Map<Object, Object> WRAPPED = new ConcurrentHashMap<>();
+
+    private FakeProxy() {
+    }
+
+    /**
+     * Creates a fake of an interface
+     *
+     * @param type the interface to implement
+     * @param backing the object calls are forwarded to
+     * @param <T> the interface type
+     * @return the fake
+     * @throws IllegalArgumentException if the type is not an interface
+     */
+    public static <T> T of(Class<T> type, Object backing) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException(type.getName() + " is not an interface and cannot be faked");
+        }
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new Forwarder(backing)));
+    }
+
+    /**
+     * Backing objects answering calls by name, e.g. every is*() rule flag of a kit
+     */
+    public interface Answering {
+
+        /**
+         * Answers a call the backing object has no method for
+         *
+         * @param method the called interface method
+         * @param args the call arguments, may be null
+         * @return the result, or {@link #NO_ANSWER} to use the empty default
+         */
+        Object answer(Method method, Object[] args);
+    }
+
+    private static Object wrap(Class<?> type, Object result) {
+        if (result == null || !type.isInterface() || type.isInstance(result)) {
+            return result;
+        }
+
+        // API containers such as the match API are returned as plain backing objects and wrapped once
+        return WRAPPED.computeIfAbsent(result, backing -> of(type, backing));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+
+        if (type == int.class || type == short.class || type == byte.class) {
+            return 0;
+        }
+
+        if (type == long.class) {
+            return 0L;
+        }
+
+        if (type == double.class) {
+            return 0.0;
+        }
+
+        if (type == float.class) {
+            return 0.0f;
+        }
+
+        if (type == char.class) {
+            return '\0';
+        }
+
+        if (type == Set.class) {
+            return Set.of();
+        }
+
+        if (type == Map.class) {
+            return Map.of();
+        }
+
+        if (type == Optional.class) {
+            return Optional.empty();
+        }
+
+        if (Collection.class.isAssignableFrom(type) && type.isAssignableFrom(List.class)) {
+            return List.of();
+        }
+
+        return null;
+    }
+
+    private static final class Forwarder implements InvocationHandler {
+
+        private final Object backing;
+        private final Map<Method, Optional<Method>> targets = new ConcurrentHashMap<>();
+
+        private Forwarder(Object backing) {
+            this.backing = backing;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+
+            Optional<Method> target = targets.computeIfAbsent(method, this::findTarget);
+
+            if (target.isPresent()) {
+                try {
+                    return wrap(method.getReturnType(), target.get().invoke(backing, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+
+            if (backing instanceof Answering answering) {
+                Object answer = answering.answer(method, args);
+
+                if (answer != NO_ANSWER) {
+                    return answer;
+                }
+            }
+
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+
+            return defaultValue(method.getReturnType());
+        }
+
+        private Optional<Method> findTarget(Method method) {
+            try {
+                Method target = backing.getClass().getMethod(method.getName(), method.getParameterTypes());
+                target.setAccessible(true);
+                return Optional.of(target);
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        }
+
+        private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> backing.toString();
+            };
+        }
+    }
+}
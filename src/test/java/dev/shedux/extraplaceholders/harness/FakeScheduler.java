@@ -0,0 +1,134 @@
+package dev.shedux.extraplaceholders.harness;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory Bukkit scheduler driven by the harness
+ * Sync tasks run when {@link #tick()} is called, async tasks run on a daemon pool right away
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakeScheduler {
+
+    private final AtomicInteger nextTaskId = new AtomicInteger(1);
+    private final Queue<ScheduledTask> pending = new ConcurrentLinkedQueue<>();
+    private final List<ScheduledTask> tasks = new ArrayList<>();
+    private final ExecutorService async = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ExtraPlaceholders-Headless-Async");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long currentTick;
+
+    /**
+     * Runs every sync task due in the next tick
+     */
+    public void tick() {
+        currentTick++;
+
+        for (ScheduledTask task; (task = pending.poll()) != null; ) {
+            tasks.add(task);
+        }
+
+        // Index loop, tasks scheduled while running are queued in pending and start next tick
+        for (int i = 0; i < tasks.size(); i++) {
+            ScheduledTask task = tasks.get(i);
+
+            if (!task.cancelled && task.nextRun <= currentTick) {
+                task.runnable.run();
+                task.nextRun = task.period > 0 ? currentTick + task.period : Long.MAX_VALUE;
+            }
+        }
+
+        tasks.removeIf(task -> task.cancelled || task.nextRun == Long.MAX_VALUE);
+    }
+
+    public BukkitTask runTask(Plugin plugin, Runnable runnable) {
+        return schedule(runnable, 0L, 0L);
+    }
+
+    public BukkitTask runTaskLater(Plugin plugin, Runnable runnable, long delay) {
+        return schedule(runnable, delay, 0L);
+    }
+
+    public BukkitTask runTaskTimer(Plugin plugin, Runnable runnable, long delay, long period) {
+        return schedule(runnable, delay, Math.max(1L, period));
+    }
+
+    public BukkitTask runTaskAsynchronously(Plugin plugin, Runnable runnable) {
+        ScheduledTask task = new ScheduledTask(nextTaskId.getAndIncrement(), runnable, 0L, 0L);
+        async.execute(() -> {
+            if (!task.cancelled) {
+                runnable.run();
+            }
+        });
+        return task.asTask();
+    }
+
+    public void cancelTasks(Plugin plugin) {
+        pending.forEach(ScheduledTask::cancel);
+        tasks.forEach(ScheduledTask::cancel);
+    }
+
+    private BukkitTask schedule(Runnable runnable, long delay, long period) {
+        // Tasks are adopted on the next tick, so a delay of 0 or 1 both run then
+        ScheduledTask task = new ScheduledTask(nextTaskId.getAndIncrement(), runnable,
+                currentTick + Math.max(1L, delay), period);
+        pending.add(task);
+        return task.asTask();
+    }
+
+    /**
+     * Backing object of the scheduled task fakes
+     */
+    public static final class ScheduledTask {
+
+        private final int taskId;
+        private final Runnable runnable;
+        private final long period;
+        private final BukkitTask task;
+
+        private volatile boolean cancelled;
+        private long nextRun;
+
+        private ScheduledTask(int taskId, Runnable runnable, long nextRun, long period) {
+            this.taskId = taskId;
+            this.runnable = runnable;
+            this.nextRun = nextRun;
+            this.period = period;
+            this.task = FakeProxy.of(BukkitTask.class, this);
+        }
+
+        public int getTaskId() {
+            return taskId;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private BukkitTask asTask() {
+            return task;
+        }
+
+        @Override
+        public String toString() {
+            return "ScheduledTask#" + taskId;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package dev.shedux.extraplaceholders.harness;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * In-memory Bukkit server with a fixed set of online players and installed plugins
+ * Nothing runs on its own; the harness drives every tick through {@link #tick()}
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class FakeServer {
+
+    private static final String NAME = "ExtraPlaceholders-Headless";
+    private static final String VERSION = "headless";
+
+    private final Logger logger = Logger.getLogger(NAME);
+    private final Map<UUID, FakePlayer> players = new ConcurrentHashMap<>();
+    private final Map<String, Plugin> plugins = new ConcurrentHashMap<>();
+    private final PluginManager pluginManager = FakeProxy.of(PluginManager.class, new PluginRegistry());
+    private final FakeScheduler scheduler = new FakeScheduler();
+    private final BukkitScheduler bukkitScheduler = FakeProxy.of(BukkitScheduler.class, scheduler);
+
+    private volatile List<Player> onlinePlayers = List.of();
+
+    /**
+     * Installs this server as the Bukkit server
+     * Bukkit only accepts one server per JVM
+     */
+    public void install() {
+        Bukkit.setServer(FakeProxy.of(Server.class, this));
+    }
+
+    /**
+     * Runs one server tick worth of sync tasks
+     */
+    public void tick() {
+        scheduler.tick();
+    }
+
+    /**
+     * Adds online players
+     *
+     * @param joined the players to add
+     */
+    public void addPlayers(Collection<FakePlayer> joined) {
+        joined.forEach(player -> players.put(player.getUniqueId(), player));
+        onlinePlayers = players.values().stream().map(FakePlayer::getPlayer).toList();
+    }
+
+    /**
+     * Installs a plugin so integrations targeting it are loaded
+     *
+     * @param plugin the plugin
+     */
+    public void addPlugin(FakePlugin plugin) {
+        plugins.put(plugin.getName(), plugin.asPlugin());
+    }
+
+    public String getName() {
+        return NAME;
+    }
+
+    public String getVersion() {
+        return VERSION;
+    }
+
+    public String getBukkitVersion() {
+        return VERSION;
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    public PluginManager getPluginManager() {
+        return pluginManager;
+    }
+
+    public BukkitScheduler getScheduler() {
+        return bukkitScheduler;
+    }
+
+    public boolean isPrimaryThread() {
+        return true;
+    }
+
+    public Collection<? extends Player> getOnlinePlayers() {
+        return onlinePlayers;
+    }
+
+    public int getMaxPlayers() {
+        return players.size();
+    }
+
+    public Player getPlayer(UUID uniqueId) {
+        FakePlayer player = players.get(uniqueId);
+        return player == null ? null : player.getPlayer();
+    }
+
+    public Player getPlayerExact(String name) {
+        return players.values().stream()
+                .filter(player -> player.getName().equals(name))
+                .map(FakePlayer::getPlayer)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public OfflinePlayer getOfflinePlayer(UUID uniqueId) {
+        return getPlayer(uniqueId);
+    }
+
+    /**
+     * Plugin manager answering lookups of the installed plugins, events are dropped
+     */
+    public final class PluginRegistry {
+
+        public Plugin getPlugin(String name) {
+            return plugins.get(name);
+        }
+
+        public boolean isPluginEnabled(String name) {
+            return plugins.containsKey(name);
+        }
+
+        public Plugin[] getPlugins() {
+            return plugins.values().toArray(Plugin[]::new);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package dev.shedux.extraplaceholders.harness;
+
+import dev.shedux.extraplaceholders.api.PluginDependency;
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.core.Initializer;
+import dev.shedux.extraplaceholders.expansion.ExtraPlaceholdersExpansion;
+import dev.shedux.extraplaceholders.integration.DependencyTracker;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Boots the expansion, the Bolt and the Phoenix integration against in-memory fakes
+ * Mirrors the plugin's startup without a Minecraft server, so placeholders resolve through
+ * the same handlers, caches and services. Only one headless server can run per JVM
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class HeadlessServer {
+
+    private static final Logger LOGGER = Logger.getLogger(HeadlessServer.class.getSimpleName());
+    private static final String PLUGIN_NAME = "ExtraPlaceholders";
+    private static final String BOLT = "Bolt";
+    private static final String PHOENIX = "Phoenix";
+    private static final String PLAYER_NAME_PREFIX = "Player";
+
+    private final FakeServer server;
+
+    private final List<FakePlayer> players;
+    private final FakeBolt bolt;
+    private final ExtraPlaceholdersExpansion expansion;
+
+    private HeadlessServer(FakeServer server, List<FakePlayer> players, FakeBolt bolt,
+                           ExtraPlaceholdersExpansion expansion) {
+        this.server = server;
+        this.players = players;
+        this.bolt = bolt;
+        this.expansion = expansion;
+    }
+
+    /**
+     * Starts a headless server with every player online and in a match
+     *
+     * @param playerCount the number of online players
+     * @param seed the seed driving matches, vanish and grant state
+     * @return the running server
+     */
+    public static HeadlessServer start(int playerCount, long seed) {
+        Random random = new Random(seed);
+        List<FakePlayer> players = new ArrayList<>(playerCount);
+
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new FakePlayer(new UUID(seed, i), PLAYER_NAME_PREFIX + i));
+        }
+
+        return start(players, random);
+    }
+
+    /**
+     * Starts a headless server with the given players online and in a match
+     *
+     * @param players the online players
+     * @param random the random source driving matches, vanish and grant state
+     * @return the running server
+     */
+    public static HeadlessServer start(List<FakePlayer> players, Random random) {
+        File dataFolder = new File(System.getProperty("java.io.tmpdir"), PLUGIN_NAME);
+        FakePlugin plugin = new FakePlugin(PLUGIN_NAME, dataFolder);
+
+        FakeServer server = new FakeServer();
+        server.addPlugin(plugin);
+        server.addPlugin(new FakePlugin(BOLT, dataFolder));
+        server.addPlugin(new FakePlugin(PHOENIX, dataFolder));
+        server.addPlayers(players);
+        server.install();
+
+        // Match history persists through the plugin instance, which does not exist headless
+        Configuration.MATCH_HISTORY.ENABLED = false;
+        Initializer.initialize(plugin.asPlugin());
+
+        FakeBolt bolt = new FakeBolt(players, random);
+        FakePhoenix phoenix = new FakePhoenix(players, random);
+        bind(BOLT, bolt.asApi());
+        bind(PHOENIX, phoenix.asApi());
+
+        ExtraPlaceholdersExpansion expansion = new ExtraPlaceholdersExpansion(null);
+        expansion.getClock().start();
+        expansion.getViewerLocales().start();
+        expansion.getTickMonitor().start();
+        expansion.getLoadShedder().start();
+        expansion.getPrecomputeService().start();
+        expansion.getSubscriptionService().start();
+
+        return new HeadlessServer(server, List.copyOf(players), bolt, expansion);
+    }
+
+    public List<FakePlayer> getPlayers() {
+        return players;
+    }
+
+    public FakeBolt getBolt() {
+        return bolt;
+    }
+
+    public ExtraPlaceholdersExpansion getExpansion() {
+        return expansion;
+    }
+
+    /**
+     * Runs one server tick, advancing scheduled tasks and matches
+     */
+    public void tick() {
+        server.tick();
+        bolt.tick();
+    }
+
+    /**
+     * Stops the expansion services and the integrations
+     */
+    public void shutdown() {
+        expansion.getPrecomputeService().shutdown();
+        expansion.getSubscriptionService().shutdown();
+        expansion.getLoadShedder().shutdown();
+        expansion.getTickMonitor().shutdown();
+        expansion.getClock().shutdown();
+        expansion.getViewerLocales().shutdown();
+        Initializer.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void bind(String pluginName, T api) {
+        PluginDependency dependency = Initializer.getDependency(pluginName).orElse(null);
+
+        if (!(dependency instanceof DependencyTracker<?> tracker)) {
+            LOGGER.warning(pluginName + " integration is not on the classpath, its placeholders stay unavailable");
+            return;
+        }
+
+        ((DependencyTracker<T>) tracker).bind(api);
+    }
+}
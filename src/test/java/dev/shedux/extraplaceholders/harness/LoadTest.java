@@ -0,0 +1,106 @@
+package dev.shedux.extraplaceholders.harness;
+
+import dev.shedux.extraplaceholders.benchmark.LoadSimulation;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Offline load test against a headless server
+ * Every player views every placeholder and refreshes them all once per tick at 20 Hz, while the
+ * fake Bolt matches play out. Reports throughput, tail latency, allocation and tick overruns.
+ * Run with {@code ./gradlew loadTest --args="<players> <seconds> [placeholders]"}
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class LoadTest {
+
+    private static final long SEED = 42L;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final int TICKS_PER_SECOND = 20;
+    private static final int WARMUP_TICKS = 200;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String DEFAULT_PLACEHOLDERS = String.join(",",
+            "server_online", "server_tps", "server_mspt", "server_date",
+            "bolt_kit_rule_sumo", "bolt_kit_nodebuff_rule_ranked", "bolt_match_winner", "bolt_match_loser",
+            "phoenix_status", "phoenix_expiration");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: loadTest <players> <seconds> [placeholder,placeholder,...]");
+            System.exit(1);
+        }
+
+        int playerCount = Integer.parseInt(args[0]);
+        int seconds = Integer.parseInt(args[1]);
+        List<String> placeholders = Arrays.asList((args.length > 2 ? args[2] : DEFAULT_PLACEHOLDERS).split(","));
+
+        HeadlessServer server = HeadlessServer.start(playerCount, SEED);
+        List<Player> players = server.getPlayers().stream().map(FakePlayer::getPlayer).toList();
+
+        System.out.printf("Simulating %d players x %d placeholders at 20 Hz for %ds%n",
+                playerCount, placeholders.size(), seconds);
+
+        // Unpaced warmup so the JIT and the caches settle before anything is measured
+        LoadSimulation warmup = new LoadSimulation(server.getExpansion(), playerCount, placeholders);
+        for (int tick = 0; tick < WARMUP_TICKS; tick++) {
+            server.tick();
+            warmup.step(players, Long.MAX_VALUE);
+        }
+
+        LoadSimulation simulation = new LoadSimulation(server.getExpansion(), playerCount, placeholders);
+        long totalTicks = (long) seconds * TICKS_PER_SECOND;
+        long overruns = 0;
+        long nextTick = System.nanoTime();
+
+        for (long tick = 0; tick < totalTicks; tick++) {
+            long tickStart = System.nanoTime();
+
+            server.tick();
+            simulation.step(players, Long.MAX_VALUE);
+            simulation.countTick();
+
+            if (System.nanoTime() - tickStart > TICK_NANOS) {
+                overruns++;
+            }
+
+            nextTick += TICK_NANOS;
+            long sleep = nextTick - System.nanoTime();
+
+            if (sleep > 0) {
+                LockSupport.parkNanos(sleep);
+            } else {
+                // Behind schedule, start the next tick right away instead of bursting to catch up
+                nextTick = System.nanoTime();
+            }
+        }
+
+        server.shutdown();
+        print(simulation.getResult(), overruns);
+    }
+
+    private static void print(LoadSimulation.Result result, long overruns) {
+        System.out.printf(Locale.ROOT, "Resolutions:   %d in %d rounds over %d ticks%n",
+                result.resolutions(), result.rounds(), result.ticks());
+        System.out.printf(Locale.ROOT, "Throughput:    %.0f resolutions/s of busy time%n", result.throughput());
+        System.out.printf(Locale.ROOT, "Resolve:       p50 %s  p99 %s  p99.9 %s  max %s%n",
+                millis(result.p50()), millis(result.p99()), millis(result.p999()), millis(result.max()));
+        System.out.printf(Locale.ROOT, "Round:         p50 %s  p99 %s%n",
+                millis(result.roundP50()), millis(result.roundP99()));
+        System.out.printf(Locale.ROOT, "Allocation:    %s per resolution%n",
+                result.bytesPerResolution() < 0 ? "unsupported" : result.bytesPerResolution() + " B");
+        System.out.printf(Locale.ROOT, "Tick overruns: %d of %d ticks over 50ms%n", overruns, result.ticks());
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,100 @@
+package dev.shedux.extraplaceholders.harness;
+
+import dev.shedux.extraplaceholders.config.Configuration;
+import dev.shedux.extraplaceholders.trace.TraceReader;
+import dev.shedux.extraplaceholders.trace.TraceRecord;
+import dev.shedux.extraplaceholders.trace.TraceReplay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Offline replay of a captured request trace against a headless server
+ * Every player in the trace comes online with the same UUID and joins a fake match, so
+ * the recorded requests resolve through the same handlers as on the live server.
+ * Run with {@code ./gradlew replayTrace --args="<trace file> [speed]"}
+ *
+ * @author sheduxdev
+ * @since 1.0.0
+ */
+public final class ReplayTrace {
+
+    private static final long SEED = 42L;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final double DEFAULT_SPEED = 1.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final String PLAYER_NAME_PREFIX = "Player";
+
+    private ReplayTrace() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: replayTrace <trace file> [speed, 1 = recorded, 0 = as fast as possible]");
+            System.exit(1);
+        }
+
+        Path file = Path.of(args[0]);
+        double speed = args.length > 1 ? Double.parseDouble(args[1]) : DEFAULT_SPEED;
+        List<TraceRecord> records = TraceReader.read(file);
+
+        List<UUID> playerIds = records.stream()
+                .map(TraceRecord::player)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        List<FakePlayer> players = new ArrayList<>(playerIds.size());
+        for (int i = 0; i < playerIds.size(); i++) {
+            players.add(new FakePlayer(playerIds.get(i), PLAYER_NAME_PREFIX + i));
+        }
+
+        HeadlessServer server = HeadlessServer.start(players, new Random(SEED));
+        TraceReplay replay = new TraceReplay(server.getExpansion(), records, speed);
+        long budget = TimeUnit.MILLISECONDS.toNanos(Configuration.TRACE.REPLAY_TICK_BUDGET_MS);
+
+        System.out.printf(Locale.ROOT, "Replaying %d records from %d players at %s%n",
+                records.size(), players.size(), speed > 0 ? speed + "x speed" : "max speed");
+
+        long nextTick = System.nanoTime();
+        boolean done = false;
+
+        while (!done) {
+            server.tick();
+            done = replay.step(budget);
+
+            if (speed <= 0) {
+                continue;
+            }
+
+            nextTick += TICK_NANOS;
+            long sleep = nextTick - System.nanoTime();
+
+            if (sleep > 0) {
+                LockSupport.parkNanos(sleep);
+            } else {
+                nextTick = System.nanoTime();
+            }
+        }
+
+        server.shutdown();
+        print(replay.getResult());
+    }
+
+    private static void print(TraceReplay.Result result) {
+        System.out.printf(Locale.ROOT, "Records:    %d replayed, %d unresolved, %d errors in %.2fs%n",
+                result.records(), result.unresolved(), result.errors(), result.wallNanos() / NANOS_PER_SECOND);
+        System.out.printf(Locale.ROOT, "Throughput: %.0f resolutions/s of busy time%n", result.throughput());
+        System.out.printf(Locale.ROOT, "Resolve:    p50 %.3fms  p99 %.3fms  max %.3fms%n",
+                result.p50() / NANOS_PER_MILLI, result.p99() / NANOS_PER_MILLI, result.max() / NANOS_PER_MILLI);
+    }
+}